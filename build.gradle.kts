@@ -123,6 +123,7 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
     testImplementation("org.hamcrest:hamcrest:2.2")
     testImplementation("org.mockito:mockito-core:3.7.7")
+    testImplementation(ap.get().output)
 }
 val spongeSnapshotRepo: String? by project
 val spongeReleaseRepo: String? by project
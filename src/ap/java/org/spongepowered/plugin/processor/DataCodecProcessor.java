@@ -0,0 +1,506 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import org.spongepowered.api.data.persistence.DataCodec;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates a {@code DataTranslator}, and for {@code DataSerializable}
+ * classes a {@code DataBuilder}, for every class annotated with
+ * {@link DataCodec}.
+ */
+@SupportedAnnotationTypes(DataCodecProcessor.DATA_CODEC_ANNOTATION_CLASS)
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class DataCodecProcessor extends AbstractProcessor {
+
+    static final String DATA_CODEC_ANNOTATION_CLASS = "org.spongepowered.api.data.persistence.DataCodec";
+    private static final String PERSISTENCE_PACKAGE = "org.spongepowered.api.data.persistence.";
+    private static final String DATA_SERIALIZABLE_CLASS = DataCodecProcessor.PERSISTENCE_PACKAGE + "DataSerializable";
+    private static final String DATA_VIEW_CLASS = DataCodecProcessor.PERSISTENCE_PACKAGE + "DataView";
+    private static final String RESOURCE_KEY_CLASS = "org.spongepowered.api.ResourceKey";
+    private static final String CHARACTER_CLASS = "java.lang.Character";
+
+    /**
+     * The {@code DataView} getters of the types that can be read directly,
+     * by qualified type name.
+     */
+    private static final Map<String, String> GETTERS = new HashMap<>();
+    /**
+     * The {@code DataView} list getters of the element types that can be read
+     * directly, by qualified type name.
+     */
+    private static final Map<String, String> LIST_GETTERS = new HashMap<>();
+
+    static {
+        DataCodecProcessor.GETTERS.put("java.lang.Boolean", "getBoolean");
+        DataCodecProcessor.GETTERS.put("java.lang.Byte", "getByte");
+        DataCodecProcessor.GETTERS.put("java.lang.Short", "getShort");
+        DataCodecProcessor.GETTERS.put("java.lang.Integer", "getInt");
+        DataCodecProcessor.GETTERS.put("java.lang.Long", "getLong");
+        DataCodecProcessor.GETTERS.put("java.lang.Float", "getFloat");
+        DataCodecProcessor.GETTERS.put("java.lang.Double", "getDouble");
+        DataCodecProcessor.GETTERS.put("java.lang.String", "getString");
+        DataCodecProcessor.GETTERS.put(DataCodecProcessor.RESOURCE_KEY_CLASS, "getResourceKey");
+        DataCodecProcessor.GETTERS.put(DataCodecProcessor.DATA_VIEW_CLASS, "getView");
+
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Boolean", "getBooleanList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Byte", "getByteList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Short", "getShortList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Integer", "getIntegerList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Long", "getLongList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Float", "getFloatList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.Double", "getDoubleList");
+        DataCodecProcessor.LIST_GETTERS.put("java.lang.String", "getStringList");
+        DataCodecProcessor.LIST_GETTERS.put(DataCodecProcessor.RESOURCE_KEY_CLASS, "getResourceKeyList");
+        DataCodecProcessor.LIST_GETTERS.put(DataCodecProcessor.DATA_VIEW_CLASS, "getViewList");
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (ProcessorUtils.contains(annotations, DataCodec.class)) {
+            for (final Element e : roundEnv.getElementsAnnotatedWith(DataCodec.class)) {
+                if (e.getKind() != ElementKind.CLASS) {
+                    this.processingEnv.getMessager().printMessage(ERROR, "Invalid element of type " + e.getKind() + " annotated with @DataCodec", e);
+                    continue;
+                }
+                final TypeElement type = (TypeElement) e;
+                final List<Field> fields = this.fields(type);
+                if (fields == null) {
+                    continue;
+                }
+                final Construction construction = this.construction(type, fields);
+                if (construction == Construction.INVALID) {
+                    continue;
+                }
+                try {
+                    this.writeTranslator(type, fields, construction);
+                    if (this.isTypeSubclass(type.asType(), DataCodecProcessor.DATA_SERIALIZABLE_CLASS)) {
+                        this.writeBuilder(type);
+                    }
+                } catch (final IOException ex) {
+                    this.processingEnv.getMessager().printMessage(ERROR, "Failed to write generated codec: " + ex.getMessage(), type);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private List<Field> fields(final TypeElement type) {
+        final Messager msg = this.processingEnv.getMessager();
+        boolean valid = true;
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            msg.printMessage(ERROR, "class must not be private", type);
+            valid = false;
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            msg.printMessage(ERROR, "class must not be abstract", type);
+            valid = false;
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            msg.printMessage(ERROR, "nested class must be static", type);
+            valid = false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            msg.printMessage(ERROR, "class must not declare type parameters", type);
+            valid = false;
+        }
+
+        final String translator = DataCodecProcessor.generatedName(type, "DataTranslator");
+        final List<Field> fields = new ArrayList<>();
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                msg.printMessage(ERROR, "serialized field must not be private", field);
+                valid = false;
+                continue;
+            }
+            final DataCodec.Query query = field.getAnnotation(DataCodec.Query.class);
+            final String path = query == null ? field.getSimpleName().toString() : query.value();
+            final Field generated = new Field(field, path, translator, fields.size());
+            if (!this.resolveAccessors(generated)) {
+                msg.printMessage(ERROR, "unsupported type of serialized field: " + field.asType(), field);
+                valid = false;
+                continue;
+            }
+            fields.add(generated);
+        }
+        return valid ? fields : null;
+    }
+
+    private Construction construction(final TypeElement type, final List<Field> fields) {
+        final Types types = this.processingEnv.getTypeUtils();
+        boolean hasDefaultConstructor = false;
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            final List<? extends VariableElement> parameters = constructor.getParameters();
+            if (parameters.isEmpty()) {
+                hasDefaultConstructor = true;
+            }
+            if (parameters.size() != fields.size() || fields.isEmpty()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < parameters.size(); i++) {
+                if (!types.isSameType(parameters.get(i).asType(), fields.get(i).element.asType())) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return Construction.CONSTRUCTOR;
+            }
+        }
+        if (!hasDefaultConstructor) {
+            this.processingEnv.getMessager().printMessage(ERROR,
+                "class must declare a non-private constructor taking all serialized fields in declaration order, or one without parameters",
+                type);
+            return Construction.INVALID;
+        }
+        boolean valid = true;
+        for (final Field field : fields) {
+            if (field.element.getModifiers().contains(Modifier.FINAL)) {
+                this.processingEnv.getMessager().printMessage(ERROR,
+                    "serialized field must not be final unless the class declares a constructor taking all serialized fields", field.element);
+                valid = false;
+            }
+        }
+        return valid ? Construction.FIELDS : Construction.INVALID;
+    }
+
+    /**
+     * Resolves the expressions reading the field from a {@code view} and
+     * writing the value of the field of {@code obj} to a {@code view}.
+     *
+     * @param field The field
+     * @return False if the type of the field is not supported
+     */
+    private boolean resolveAccessors(final Field field) {
+        final TypeMirror type = field.element.asType();
+        final String value = "obj." + field.element.getSimpleName();
+        final String query = field.query;
+        if (type.getKind().isPrimitive()) {
+            if (type.getKind() == TypeKind.CHAR) {
+                return false;
+            }
+            final TypeElement boxed = this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) type);
+            field.required = true;
+            field.read = field.translator + ".require(view." + DataCodecProcessor.GETTERS.get(boxed.getQualifiedName().toString()) + "("
+                + query + "), " + query + ")";
+            field.write = "view.set(" + query + ", " + value + ");";
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final DeclaredType declared = (DeclaredType) type;
+        final TypeElement element = (TypeElement) declared.asElement();
+        final String name = element.getQualifiedName().toString();
+        String written = value;
+        if (DataCodecProcessor.CHARACTER_CLASS.equals(name)) {
+            return false;
+        } else if ("java.util.List".equals(name)) {
+            if (declared.getTypeArguments().size() != 1 || declared.getTypeArguments().get(0).getKind() != TypeKind.DECLARED) {
+                return false;
+            }
+            final DeclaredType elementType = (DeclaredType) declared.getTypeArguments().get(0);
+            final TypeElement listElement = (TypeElement) elementType.asElement();
+            final String elementName = listElement.getQualifiedName().toString();
+            if (DataCodecProcessor.CHARACTER_CLASS.equals(elementName)) {
+                return false;
+            }
+            final String getter = DataCodecProcessor.LIST_GETTERS.get(elementName);
+            if (getter != null) {
+                field.read = "view." + getter + "(" + query + ")";
+                if (DataCodecProcessor.RESOURCE_KEY_CLASS.equals(elementName)) {
+                    written = value + ".stream().map(" + elementName + "::asString).collect(java.util.stream.Collectors.toList())";
+                }
+            } else if (listElement.getKind() == ElementKind.ENUM) {
+                field.enumerated = true;
+                field.read = "view.getStringList(" + query + ").map(list -> list.stream().map(value -> " + field.translator + ".constant("
+                    + elementName + ".class, value)).collect(java.util.stream.Collectors.toList()))";
+                written = value + ".stream().map(Enum::name).collect(java.util.stream.Collectors.toList())";
+            } else if (!elementType.getTypeArguments().isEmpty()) {
+                return false;
+            } else if (this.isTypeSubclass(elementType, DataCodecProcessor.DATA_SERIALIZABLE_CLASS)) {
+                field.read = "view.getSerializableList(" + query + ", " + elementName + ".class)";
+            } else {
+                field.read = "view.getObjectList(" + query + ", " + elementName + ".class)";
+            }
+        } else {
+            final String getter = DataCodecProcessor.GETTERS.get(name);
+            if (getter != null) {
+                field.read = "view." + getter + "(" + query + ")";
+                if (DataCodecProcessor.RESOURCE_KEY_CLASS.equals(name)) {
+                    written = value + ".asString()";
+                }
+            } else if (element.getKind() == ElementKind.ENUM) {
+                field.enumerated = true;
+                field.read = "view.getString(" + query + ").map(value -> " + field.translator + ".constant(" + name + ".class, value))";
+                written = value + ".name()";
+            } else if (!declared.getTypeArguments().isEmpty()) {
+                return false;
+            } else if (this.isTypeSubclass(declared, DataCodecProcessor.DATA_SERIALIZABLE_CLASS)) {
+                field.read = "view.getSerializable(" + query + ", " + name + ".class)";
+            } else {
+                field.read = "view.getObject(" + query + ", " + name + ".class)";
+            }
+        }
+        field.read += ".orElse(null)";
+        field.write = "if (" + value + " != null) {\n            view.set(" + query + ", " + written + ");\n        }";
+        return true;
+    }
+
+    private void writeTranslator(final TypeElement type, final List<Field> fields, final Construction construction) throws IOException {
+        final String target = type.getQualifiedName().toString();
+        final String name = DataCodecProcessor.generatedName(type, "DataTranslator");
+        final int version = type.getAnnotation(DataCodec.class).version();
+
+        final StringBuilder source = new StringBuilder();
+        this.appendHeader(source, type);
+        source.append("public final class ").append(name)
+            .append(" implements org.spongepowered.api.data.persistence.DataTranslator<").append(target).append("> {\n\n");
+        source.append("    public static final ").append(name).append(" INSTANCE = new ").append(name).append("();\n\n");
+        source.append("    private static final io.leangen.geantyref.TypeToken<").append(target).append("> TOKEN =")
+            .append(" io.leangen.geantyref.TypeToken.get(").append(target).append(".class);\n");
+        for (final Field field : fields) {
+            source.append("    private static final org.spongepowered.api.data.persistence.DataQuery ").append(field.constant)
+                .append(" = org.spongepowered.api.data.persistence.DataQuery.of('.', \"").append(DataCodecProcessor.escape(field.path))
+                .append("\");\n");
+        }
+        source.append("\n    private ").append(name).append("() {\n    }\n\n");
+
+        source.append("    @Override\n    public io.leangen.geantyref.TypeToken<").append(target).append("> token() {\n")
+            .append("        return ").append(name).append(".TOKEN;\n    }\n\n");
+
+        source.append("    @Override\n    public ").append(target)
+            .append(" translate(final org.spongepowered.api.data.persistence.DataView view)")
+            .append(" throws org.spongepowered.api.data.persistence.InvalidDataException {\n");
+        if (construction == Construction.CONSTRUCTOR) {
+            final List<String> reads = new ArrayList<>();
+            for (final Field field : fields) {
+                reads.add(field.read);
+            }
+            source.append("        return new ").append(target).append("(\n            ")
+                .append(String.join(",\n            ", reads)).append("\n        );\n");
+        } else {
+            source.append("        final ").append(target).append(" obj = new ").append(target).append("();\n");
+            for (final Field field : fields) {
+                source.append("        obj.").append(field.element.getSimpleName()).append(" = ").append(field.read).append(";\n");
+            }
+            source.append("        return obj;\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n    public org.spongepowered.api.data.persistence.DataContainer translate(final ").append(target)
+            .append(" obj) throws org.spongepowered.api.data.persistence.InvalidDataException {\n")
+            .append("        final org.spongepowered.api.data.persistence.DataContainer container =")
+            .append(" org.spongepowered.api.data.persistence.DataContainer.createNew();\n")
+            .append("        this.addTo(obj, container);\n        return container;\n    }\n\n");
+
+        source.append("    @Override\n    public org.spongepowered.api.data.persistence.DataView addTo(final ").append(target)
+            .append(" obj, final org.spongepowered.api.data.persistence.DataView view) {\n")
+            .append("        view.set(org.spongepowered.api.data.persistence.Queries.CONTENT_VERSION, ").append(version).append(");\n");
+        for (final Field field : fields) {
+            source.append("        ").append(field.write).append("\n");
+        }
+        source.append("        return view;\n    }\n");
+
+        if (fields.stream().anyMatch(field -> field.required)) {
+            source.append("\n    private static <T> T require(final java.util.Optional<T> value,")
+                .append(" final org.spongepowered.api.data.persistence.DataQuery query) {\n")
+                .append("        return value.orElseThrow(() -> new org.spongepowered.api.data.persistence.InvalidDataException(")
+                .append("\"Missing required data \" + query + \" for ").append(target).append("\"));\n    }\n");
+        }
+        if (fields.stream().anyMatch(field -> field.enumerated)) {
+            source.append("\n    private static <E extends Enum<E>> E constant(final Class<E> type, final String name) {\n")
+                .append("        try {\n            return Enum.valueOf(type, name);\n")
+                .append("        } catch (final IllegalArgumentException ex) {\n")
+                .append("            throw new org.spongepowered.api.data.persistence.InvalidDataException(")
+                .append("\"Unknown constant \" + name + \" of \" + type.getName(), ex);\n        }\n    }\n");
+        }
+        source.append("\n}\n");
+
+        this.writeSource(type, name, source);
+    }
+
+    private void writeBuilder(final TypeElement type) throws IOException {
+        final String target = type.getQualifiedName().toString();
+        final String name = DataCodecProcessor.generatedName(type, "DataBuilder");
+        final String translator = DataCodecProcessor.generatedName(type, "DataTranslator");
+        final int version = type.getAnnotation(DataCodec.class).version();
+
+        final StringBuilder source = new StringBuilder();
+        this.appendHeader(source, type);
+        source.append("public final class ").append(name)
+            .append(" extends org.spongepowered.api.data.persistence.AbstractDataBuilder<").append(target).append("> {\n\n")
+            .append("    public ").append(name).append("() {\n")
+            .append("        super(").append(target).append(".class, ").append(version).append(");\n    }\n\n")
+            .append("    @Override\n    protected java.util.Optional<").append(target)
+            .append("> buildContent(final org.spongepowered.api.data.persistence.DataView container)")
+            .append(" throws org.spongepowered.api.data.persistence.InvalidDataException {\n")
+            .append("        return java.util.Optional.of(").append(translator).append(".INSTANCE.translate(container));\n    }\n\n}\n");
+
+        this.writeSource(type, name, source);
+    }
+
+    private void appendHeader(final StringBuilder source, final TypeElement type) {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("/**\n * Generated from {@link ").append(type.getQualifiedName()).append("} by the DataCodec annotation processor.\n */\n");
+    }
+
+    private void writeSource(final TypeElement type, final String name, final CharSequence source) throws IOException {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        final String qualifiedName = pkg.isUnnamed() ? name : pkg.getQualifiedName() + "." + name;
+        try (final Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.append(source);
+        }
+    }
+
+    private boolean isTypeSubclass(final TypeMirror type, final String subclass) {
+        final Types types = this.processingEnv.getTypeUtils();
+        final TypeMirror superType = types.getDeclaredType(this.processingEnv.getElementUtils().getTypeElement(subclass));
+        return types.isAssignable(type, superType);
+    }
+
+    private static String generatedName(final TypeElement type, final String suffix) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return name.append(suffix).toString();
+    }
+
+    /**
+     * Escapes the given value for a string literal of generated source.
+     * Control characters without an escape sequence of their own are
+     * written as unicode escapes, none of which is a line terminator.
+     *
+     * @param value The value
+     * @return The escaped value
+     */
+    private static String escape(final String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\b':
+                    escaped.append("\\b");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\f':
+                    escaped.append("\\f");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                default:
+                    if (Character.isISOControl(c)) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+
+    private enum Construction {
+        CONSTRUCTOR,
+        FIELDS,
+        INVALID
+    }
+
+    private static final class Field {
+
+        final VariableElement element;
+        final String path;
+        final String constant;
+        final String translator;
+        final String query;
+        boolean required;
+        boolean enumerated;
+        String read = "";
+        String write = "";
+
+        Field(final VariableElement element, final String path, final String translator, final int index) {
+            this.element = element;
+            this.path = path;
+            this.constant = "QUERY_" + index;
+            this.translator = translator;
+            this.query = translator + "." + this.constant;
+        }
+
+    }
+
+}
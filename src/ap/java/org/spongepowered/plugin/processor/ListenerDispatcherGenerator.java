@@ -0,0 +1,470 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates the {@code ListenerDispatcher} of a listener class, calling its
+ * listener methods directly after checking their filters inline.
+ */
+final class ListenerDispatcherGenerator {
+
+    private static final String FILTER_PACKAGE = "org.spongepowered.api.event.filter";
+    private static final String DISPATCHER_CLASS = "org.spongepowered.api.event.ListenerDispatcher";
+    private static final String TYPE_TOKEN_CLASS = "io.leangen.geantyref.TypeToken";
+    private static final String VALUE_CONTAINER_CLASS = "org.spongepowered.api.data.value.ValueContainer";
+
+    private final ProcessingEnvironment processingEnv;
+
+    ListenerDispatcherGenerator(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Generates the dispatcher of the given listener class.
+     *
+     * @param type The listener class
+     * @return The qualified name of the generated dispatcher
+     * @throws UnsupportedListenerException If the listener methods of the
+     *     class can only be registered at runtime
+     * @throws IOException If the dispatcher could not be written
+     */
+    String generate(final TypeElement type) throws UnsupportedListenerException, IOException {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedListenerException("abstract classes are never the exact class of a listener");
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+            throw new UnsupportedListenerException("local and anonymous classes cannot be referenced by generated code");
+        }
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedListenerException("private classes are not accessible to generated code");
+            }
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedListenerException("generic listener classes are not supported");
+        }
+
+        final Elements elements = this.processingEnv.getElementUtils();
+        final String target = type.getQualifiedName().toString();
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        name.append("ListenerDispatcher");
+
+        final StringBuilder constants = new StringBuilder();
+        final StringBuilder registrations = new StringBuilder();
+        int index = 0;
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            final Listener listener = method.getAnnotation(Listener.class);
+            if (listener == null || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (!method.getTypeParameters().isEmpty()) {
+                throw new UnsupportedListenerException("generic listener methods are not supported");
+            }
+            final TypeMirror eventType = method.getParameters().get(0).asType();
+            final String eventSource = this.typeSource(eventType);
+            final String constant = "EVENT_TYPE_" + index++;
+            constants.append("    private static final ").append(ListenerDispatcherGenerator.TYPE_TOKEN_CLASS).append('<').append(eventSource)
+                .append("> ").append(constant).append(" = ");
+            if (this.isRaw(eventType)) {
+                constants.append(ListenerDispatcherGenerator.TYPE_TOKEN_CLASS).append(".get(").append(eventSource).append(".class);\n");
+            } else {
+                constants.append("new ").append(ListenerDispatcherGenerator.TYPE_TOKEN_CLASS).append('<').append(eventSource).append(">() {};\n");
+            }
+
+            registrations.append("        registrations.add(new ").append(ListenerDispatcherGenerator.DISPATCHER_CLASS).append(".Registration<")
+                .append(eventSource).append(">(").append(name).append('.').append(constant).append(", org.spongepowered.api.event.Order.")
+                .append(listener.order().name()).append(", ").append(listener.beforeModifications()).append(", event -> {\n");
+            this.appendFilters(registrations, method, eventType);
+            registrations.append("        }));\n");
+        }
+
+        final StringBuilder source = new StringBuilder();
+        final PackageElement pkg = elements.getPackageOf(type);
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("/**\n * Generated from {@link ").append(target).append("} by the Listener annotation processor.\n */\n")
+            .append("public final class ").append(name).append(" implements ").append(ListenerDispatcherGenerator.DISPATCHER_CLASS)
+            .append('<').append(target).append("> {\n\n")
+            .append(constants).append('\n')
+            .append("    @Override\n    public Class<").append(target).append("> listenerType() {\n")
+            .append("        return ").append(target).append(".class;\n    }\n\n")
+            .append("    @Override\n    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("    public java.util.List<").append(ListenerDispatcherGenerator.DISPATCHER_CLASS)
+            .append(".Registration<?>> registrations(final ").append(target).append(" listener) {\n")
+            .append("        final java.util.List<").append(ListenerDispatcherGenerator.DISPATCHER_CLASS)
+            .append(".Registration<?>> registrations = new java.util.ArrayList<>(").append(index).append(");\n")
+            .append(registrations)
+            .append("        return registrations;\n    }\n\n}\n");
+
+        final String qualifiedName = pkg.isUnnamed() ? name.toString() : pkg.getQualifiedName() + "." + name;
+        try (final Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.append(source);
+        }
+        return qualifiedName;
+    }
+
+    private void appendFilters(final StringBuilder body, final ExecutableElement method, final TypeMirror eventType)
+            throws UnsupportedListenerException {
+        final AnnotationMirror include = this.annotation(method, Include.class.getName());
+        if (include != null) {
+            body.append("            if (!(").append(this.instanceOfAny("event", this.classes(include, "value"))).append(")) {\n")
+                .append("                return;\n            }\n");
+        }
+        final AnnotationMirror exclude = this.annotation(method, Exclude.class.getName());
+        if (exclude != null) {
+            body.append("            if (").append(this.instanceOfAny("event", this.classes(exclude, "value"))).append(") {\n")
+                .append("                return;\n            }\n");
+        }
+
+        // Without @IsCancelled, listeners are only called for events that are
+        // not cancelled, which includes the cancellable subtypes of an event
+        // type that is not cancellable itself (see the docs of IsCancelled)
+        final AnnotationMirror isCancelled = this.annotation(method, IsCancelled.class.getName());
+        final String state = isCancelled == null ? "FALSE" : ((VariableElement) this.value(isCancelled, "value")).getSimpleName().toString();
+        if (!"UNDEFINED".equals(state)) {
+            final String cancelled;
+            if (this.isAssignable(eventType, Cancellable.class.getName())) {
+                cancelled = "event.isCancelled()";
+            } else if (isCancelled != null) {
+                throw new UnsupportedListenerException("@IsCancelled requires a cancellable event type");
+            } else {
+                cancelled = "event instanceof " + Cancellable.class.getName() + " && ((" + Cancellable.class.getName() + ") event).isCancelled()";
+            }
+            body.append("            if (").append("TRUE".equals(state) ? "!(" + cancelled + ")" : cancelled).append(") {\n")
+                .append("                return;\n            }\n");
+        }
+
+        final List<String> arguments = new ArrayList<>();
+        arguments.add("event");
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 1; i < parameters.size(); i++) {
+            arguments.add(this.appendParameter(body, parameters.get(i), "arg" + i, eventType));
+        }
+        body.append("            listener.").append(method.getSimpleName()).append('(').append(String.join(", ", arguments)).append(");\n");
+    }
+
+    private String appendParameter(final StringBuilder body, final VariableElement parameter, final String variable, final TypeMirror eventType)
+            throws UnsupportedListenerException {
+        AnnotationMirror filter = null;
+        final List<AnnotationMirror> dataFilters = new ArrayList<>();
+        for (final AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            final String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (!annotation.startsWith(ListenerDispatcherGenerator.FILTER_PACKAGE)) {
+                continue;
+            }
+            // @GetValue is left to the runtime filter, which is the only
+            // definition of the object its value is read from
+            if (annotation.equals(Has.class.getName()) || annotation.equals(Supports.class.getName())) {
+                dataFilters.add(mirror);
+                continue;
+            }
+            if (filter != null || !ListenerDispatcherGenerator.isSupportedParameterFilter(annotation)) {
+                throw new UnsupportedListenerException("parameter filter @" + mirror.getAnnotationType().asElement().getSimpleName()
+                    + " can only be checked at runtime");
+            }
+            filter = mirror;
+        }
+        if (filter == null) {
+            throw new UnsupportedListenerException("parameter " + parameter.getSimpleName() + " has no filter annotation");
+        }
+
+        final String argument = this.appendSource(body, parameter, filter, variable, eventType);
+        for (final AnnotationMirror dataFilter : dataFilters) {
+            this.appendDataFilter(body, parameter, dataFilter, argument);
+        }
+        return argument;
+    }
+
+    private String appendSource(final StringBuilder body, final VariableElement parameter, final AnnotationMirror filter, final String variable,
+            final TypeMirror eventType) throws UnsupportedListenerException {
+        final TypeMirror type = parameter.asType();
+        final String typeSource = this.typeSource(type);
+        final String rawSource = this.typeSource(this.processingEnv.getTypeUtils().erasure(type));
+        final String annotation = ((TypeElement) filter.getAnnotationType().asElement()).getQualifiedName().toString();
+        final String value;
+        if (annotation.equals(First.class.getName()) || annotation.equals(Last.class.getName())) {
+            final String lookup = annotation.equals(First.class.getName()) ? "first" : "last";
+            body.append("            final java.util.Optional<").append(rawSource).append("> ").append(variable).append(" = event.cause().")
+                .append(lookup).append('(').append(rawSource).append(".class);\n")
+                .append("            if (!").append(variable).append(".isPresent()) {\n                return;\n            }\n");
+            value = variable + ".get()";
+        } else if (annotation.equals(Root.class.getName())) {
+            body.append("            final Object ").append(variable).append(" = event.cause().root();\n")
+                .append("            if (!(").append(variable).append(" instanceof ").append(rawSource).append(")) {\n")
+                .append("                return;\n            }\n");
+            value = variable;
+        } else if (annotation.equals(Before.class.getName()) || annotation.equals(After.class.getName())) {
+            final String lookup = annotation.equals(Before.class.getName()) ? "before" : "after";
+            final String relative = this.typeSource(this.processingEnv.getTypeUtils().erasure((TypeMirror) this.value(filter, "value")));
+            body.append("            final java.util.Optional<?> ").append(variable).append(" = event.cause().").append(lookup).append('(')
+                .append(relative).append(".class);\n")
+                .append("            if (!").append(variable).append(".isPresent() || !(").append(variable).append(".get() instanceof ")
+                .append(rawSource).append(")) {\n                return;\n            }\n");
+            value = variable + ".get()";
+        } else if (annotation.equals(All.class.getName())) {
+            if (type.getKind() != TypeKind.ARRAY || !this.isRaw(((ArrayType) type).getComponentType())) {
+                throw new UnsupportedListenerException("@All parameter " + parameter.getSimpleName() + " must be an array of a non-generic type");
+            }
+            final String component = this.typeSource(((ArrayType) type).getComponentType());
+            body.append("            final java.util.List<").append(component).append("> ").append(variable).append(" = event.cause().allOf(")
+                .append(component).append(".class);\n");
+            if ((Boolean) this.value(filter, "ignoreEmpty")) {
+                body.append("            if (").append(variable).append(".isEmpty()) {\n                return;\n            }\n");
+            }
+            return variable + ".toArray(new " + component + "[0])";
+        } else {
+            return this.appendGetter(body, parameter, variable, eventType, (String) this.value(filter, "value"));
+        }
+
+        final List<TypeMirror> typeFilter = this.classes(filter, "typeFilter");
+        if (!typeFilter.isEmpty()) {
+            final boolean inverse = (Boolean) this.value(filter, "inverse");
+            body.append("            if (").append(inverse ? "" : "!(").append(this.instanceOfAny(value, typeFilter)).append(inverse ? "" : ")")
+                .append(") {\n                return;\n            }\n");
+        }
+        return "(" + typeSource + ") " + value;
+    }
+
+    private void appendDataFilter(final StringBuilder body, final VariableElement parameter, final AnnotationMirror filter, final String argument)
+            throws UnsupportedListenerException {
+        final String name = "@" + filter.getAnnotationType().asElement().getSimpleName();
+        if (!this.isAssignable(parameter.asType(), ListenerDispatcherGenerator.VALUE_CONTAINER_CLASS)) {
+            throw new UnsupportedListenerException(name + " parameter " + parameter.getSimpleName() + " must be a value container");
+        }
+        final TypeElement container = (TypeElement) this.processingEnv.getTypeUtils().asElement((TypeMirror) this.value(filter, "container"));
+        final String key = (String) this.value(filter, "value");
+        if (!ListenerDispatcherGenerator.isPublicStaticField(container, key)) {
+            throw new UnsupportedListenerException(name + "(\"" + key + "\") does not match a public key of " + container.getQualifiedName());
+        }
+        final String keySource = container.getQualifiedName() + "." + key;
+        final String check = ((TypeElement) filter.getAnnotationType().asElement()).getQualifiedName().contentEquals(Has.class.getName())
+            ? "(" + argument + ").get(" + keySource + ").isPresent()"
+            : "(" + argument + ").supports(" + keySource + ")";
+        body.append("            if (").append((Boolean) this.value(filter, "inverse") ? check : "!" + check).append(") {\n")
+            .append("                return;\n            }\n");
+    }
+
+    private String appendGetter(final StringBuilder body, final VariableElement parameter, final String variable, final TypeMirror eventType,
+            final String getter) throws UnsupportedListenerException {
+        final Types types = this.processingEnv.getTypeUtils();
+        if (eventType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedListenerException("@Getter requires a declared event type");
+        }
+        final TypeElement eventElement = (TypeElement) types.asElement(eventType);
+        for (final ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(eventElement))) {
+            if (!method.getSimpleName().contentEquals(getter) || !method.getParameters().isEmpty()) {
+                continue;
+            }
+            final TypeMirror returnType = ((ExecutableType) types.asMemberOf((DeclaredType) eventType, method)).getReturnType();
+            if (types.isAssignable(returnType, parameter.asType())) {
+                return "event." + getter + "()";
+            }
+            final TypeMirror optional = types.erasure(this.processingEnv.getElementUtils().getTypeElement("java.util.Optional").asType());
+            if (types.isSameType(types.erasure(returnType), optional)) {
+                body.append("            final java.util.Optional<?> ").append(variable).append(" = event.").append(getter).append("();\n")
+                    .append("            if (!").append(variable).append(".isPresent() || !(").append(variable).append(".get() instanceof ")
+                    .append(this.typeSource(this.referenceType(parameter.asType()))).append(")) {\n                return;\n            }\n");
+                return "(" + this.typeSource(parameter.asType()) + ") " + variable + ".get()";
+            }
+            break;
+        }
+        throw new UnsupportedListenerException("@Getter(\"" + getter + "\") does not match a getter of the event for parameter "
+            + parameter.getSimpleName());
+    }
+
+    private String instanceOfAny(final String value, final List<TypeMirror> classes) throws UnsupportedListenerException {
+        final List<String> checks = new ArrayList<>();
+        for (final TypeMirror type : classes) {
+            checks.add(value + " instanceof " + this.typeSource(this.processingEnv.getTypeUtils().erasure(type)));
+        }
+        return String.join(" || ", checks);
+    }
+
+    private AnnotationMirror annotation(final Element element, final String annotation) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(final AnnotationMirror mirror, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("No value " + name + " in " + mirror);
+    }
+
+    private List<TypeMirror> classes(final AnnotationMirror mirror, final String name) {
+        final List<TypeMirror> classes = new ArrayList<>();
+        for (final Object value : (List<?>) this.value(mirror, name)) {
+            classes.add((TypeMirror) ((AnnotationValue) value).getValue());
+        }
+        return classes;
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String superType) {
+        final Types types = this.processingEnv.getTypeUtils();
+        return types.isAssignable(type, types.getDeclaredType(this.processingEnv.getElementUtils().getTypeElement(superType)));
+    }
+
+    private TypeMirror referenceType(final TypeMirror type) {
+        final Types types = this.processingEnv.getTypeUtils();
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).asType();
+        }
+        return types.erasure(type);
+    }
+
+    private boolean isRaw(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()
+            && (((DeclaredType) type).getEnclosingType().getKind() == TypeKind.NONE || this.isRaw(((DeclaredType) type).getEnclosingType()));
+    }
+
+    /**
+     * Gets the source representation of the given type, using qualified
+     * names and without any type annotations.
+     *
+     * @param type The type
+     * @return The source of the type
+     * @throws UnsupportedListenerException If the type cannot be represented
+     */
+    private String typeSource(final TypeMirror type) throws UnsupportedListenerException {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.typeSource(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                final DeclaredType declared = (DeclaredType) type;
+                final StringBuilder source = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    final List<String> arguments = new ArrayList<>();
+                    for (final TypeMirror argument : declared.getTypeArguments()) {
+                        arguments.add(this.typeSource(argument));
+                    }
+                    source.append('<').append(String.join(", ", arguments)).append('>');
+                }
+                return source.toString();
+            case WILDCARD:
+                final WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + this.typeSource(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + this.typeSource(wildcard.getSuperBound());
+                }
+                return "?";
+            default:
+                throw new UnsupportedListenerException("type " + type + " cannot be referenced by generated code");
+        }
+    }
+
+    private static boolean isPublicStaticField(final TypeElement type, final String name) {
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            if (!enclosing.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field.getModifiers().contains(Modifier.PUBLIC) && field.getModifiers().contains(Modifier.STATIC);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSupportedParameterFilter(final String annotation) {
+        return annotation.equals(First.class.getName()) || annotation.equals(Last.class.getName()) || annotation.equals(Root.class.getName())
+            || annotation.equals(Before.class.getName()) || annotation.equals(After.class.getName()) || annotation.equals(All.class.getName())
+            || annotation.equals(Getter.class.getName());
+    }
+
+    /**
+     * Thrown if the listener methods of a class can only be registered at
+     * runtime.
+     */
+    static final class UnsupportedListenerException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedListenerException(final String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -28,7 +28,12 @@
 
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.ListenerDispatcher;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import javax.annotation.processing.AbstractProcessor;
@@ -48,6 +53,7 @@
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
 
 @SupportedAnnotationTypes(ListenerProcessor.LISTENER_ANNOTATION_CLASS)
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
@@ -56,42 +62,85 @@ public class ListenerProcessor extends AbstractProcessor {
     static final String LISTENER_ANNOTATION_CLASS = "org.spongepowered.api.event.Listener";
     private static final String EVENT_CLASS = Event.class.getName();
 
+    private final List<String> dispatchers = new ArrayList<>();
+
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
         if (ProcessorUtils.contains(annotations, Listener.class)) {
+            final Set<TypeElement> listenerTypes = new LinkedHashSet<>();
+            final Set<TypeElement> invalidTypes = new LinkedHashSet<>();
             for (final Element e : roundEnv.getElementsAnnotatedWith(Listener.class)) {
                 if (e.getKind() != ElementKind.METHOD) {
                     this.processingEnv.getMessager().printMessage(ERROR, "Invalid element of type " + e.getKind() + " annotated with @Listener", e);
                     continue;
                 }
                 final ExecutableElement method = (ExecutableElement) e;
+                final TypeElement type = (TypeElement) method.getEnclosingElement();
+                listenerTypes.add(type);
 
                 final Messager msg = this.processingEnv.getMessager();
                 if (method.getModifiers().contains(Modifier.STATIC)) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must not be static", method);
                 }
                 if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must be public", method);
                 }
                 if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must not be abstract", method);
                 }
                 if (method.getEnclosingElement().getKind().isInterface()) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "interfaces cannot declare listeners", method);
                 }
                 if (method.getReturnType().getKind() != TypeKind.VOID) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must return void", method);
                 }
                 final List<? extends VariableElement> parameters = method.getParameters();
                 if (parameters.isEmpty() || !this.isTypeSubclass(parameters.get(0), ListenerProcessor.EVENT_CLASS)) {
+                    invalidTypes.add(type);
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must have an Event as its first parameter", method);
                 }
             }
+            listenerTypes.removeAll(invalidTypes);
+            this.generateDispatchers(listenerTypes);
+        }
+        if (roundEnv.processingOver() && !this.dispatchers.isEmpty()) {
+            this.writeIndex();
         }
 
         return false;
     }
 
+    private void generateDispatchers(final Set<TypeElement> listenerTypes) {
+        final ListenerDispatcherGenerator generator = new ListenerDispatcherGenerator(this.processingEnv);
+        for (final TypeElement type : listenerTypes) {
+            try {
+                this.dispatchers.add(generator.generate(type));
+            } catch (final ListenerDispatcherGenerator.UnsupportedListenerException ex) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Listeners of " + type.getQualifiedName()
+                    + " will be discovered at runtime: " + ex.getMessage(), type);
+            } catch (final IOException ex) {
+                this.processingEnv.getMessager().printMessage(ERROR, "Failed to write the listener dispatcher: " + ex.getMessage(), type);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        try (final Writer writer = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ListenerDispatcher.INDEX)
+                .openWriter()) {
+            for (final String dispatcher : this.dispatchers) {
+                writer.write(dispatcher);
+                writer.write('\n');
+            }
+        } catch (final IOException ex) {
+            this.processingEnv.getMessager().printMessage(ERROR, "Failed to write the listener dispatcher index: " + ex.getMessage());
+        }
+    }
+
     private boolean isTypeSubclass(final Element typedElement, final String subclass) {
         final Elements elements = this.processingEnv.getElementUtils();
         final Types types = this.processingEnv.getTypeUtils();
@@ -31,9 +31,11 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.util.annotation.DoNotStore;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -44,6 +46,43 @@
 @DoNotStore
 public interface DataHolder extends ValueContainer {
 
+    /**
+     * Gets the values of all of the given {@link Key}s in a single pass,
+     * placing them into the given {@link KeyedValues} after clearing it.
+     * Keys without a value on this holder are absent from the result.
+     *
+     * <p>Reusing the same {@link KeyedValues} for repeated reads avoids
+     * allocating a container on every read. The default implementation
+     * still looks up each key through {@link #get(Key)}, while
+     * implementations are expected to override it to read their values
+     * directly, without an {@link Optional} per key.</p>
+     *
+     * @param keys The keys of the values to get
+     * @param values The container to fill
+     * @return The given container, for chaining
+     */
+    @SuppressWarnings("unchecked")
+    default KeyedValues getAll(final Set<? extends Key<?>> keys, final KeyedValues values) {
+        values.clear();
+        for (final Key<?> key : keys) {
+            final Key<Value<Object>> objectKey = (Key<Value<Object>>) key;
+            this.get(objectKey).ifPresent(value -> values.put(objectKey, value));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values of all of the given {@link Key}s in a single pass.
+     * Keys without a value on this holder are absent from the result.
+     *
+     * @param keys The keys of the values to get
+     * @return A new container holding the values
+     * @see #getAll(Set, KeyedValues)
+     */
+    default KeyedValues getAll(final Set<? extends Key<?>> keys) {
+        return this.getAll(keys, new KeyedValues());
+    }
+
     /**
      * Represents a data holder that allows its data to be modified.
      */
@@ -134,6 +173,43 @@ default <E> DataTransactionResult offer(Supplier<? extends Key<? extends Value<E
             return this.offer(key.get(), value.get());
         }
 
+        /**
+         * Offers the given {@code value} as defined by the provided {@link Key}
+         * the same way as {@link #offer(Key, Object)} does, but only reports
+         * whether the offer was successful.
+         *
+         * <p>No {@link DataTransactionResult}, nor any
+         * {@link org.spongepowered.api.data.value.Value.Immutable} snapshot of
+         * the offered or replaced values, is built unless it is needed to
+         * notify the listeners registered for the key through
+         * {@link Key#registerEvent}. This makes this method the preferred way
+         * to set values whenever the result would be ignored.</p>
+         *
+         * @param key The key to the value to set
+         * @param value The value to set
+         * @param <E> The type of value
+         * @return True if the value was set
+         * @see DataProvider#offerFast(Mutable, Object)
+         */
+        default <E> boolean offerFast(final Key<? extends Value<E>> key, final E value) {
+            return this.offer(key, value).isSuccessful();
+        }
+
+        /**
+         * Offers the given {@code value} as defined by the provided {@link Key}
+         * the same way as {@link #offer(Supplier, Object)} does, but only
+         * reports whether the offer was successful.
+         *
+         * @param key The key to the value to set
+         * @param value The value to set
+         * @param <E> The type of value
+         * @return True if the value was set
+         * @see #offerFast(Key, Object)
+         */
+        default <E> boolean offerFast(final Supplier<? extends Key<? extends Value<E>>> key, final E value) {
+            return this.offerFast(key.get(), value);
+        }
+
         /**
          * Offers the given {@link Value} as defined by the provided
          * {@link Key} such that a {@link DataTransactionResult} is returned for
@@ -308,6 +384,43 @@ default DataTransactionResult remove(Supplier<? extends Key<?>> key) {
          */
         DataTransactionResult undo(DataTransactionResult result);
 
+        /**
+         * Gets whether the value of the given {@link Key} has changed since
+         * the dirty keys of this holder were last
+         * {@link #drainDirtyKeys(BitSet) drained}.
+         *
+         * @param key The key
+         * @return True if the value of the key is dirty
+         */
+        boolean isDirty(Key<?> key);
+
+        /**
+         * Gets a copy of the {@link Key#ordinal() ordinals} of the keys whose
+         * values have changed since the dirty keys of this holder were last
+         * {@link #drainDirtyKeys(BitSet) drained}, without clearing them.
+         *
+         * @return The ordinals of the dirty keys
+         */
+        BitSet dirtyKeys();
+
+        /**
+         * Adds the {@link Key#ordinal() ordinals} of the keys whose values have
+         * changed since the last call to this method to the given
+         * {@link BitSet}, and marks all keys of this holder as clean.
+         *
+         * <p>A key becomes dirty whenever its value is set or removed through
+         * any successful offer or removal on this holder, including
+         * {@link #offerFast(Key, Object)}, or when the value is changed by the
+         * game in a way the provider of the key observes. Passing the drained
+         * keys to {@link org.spongepowered.api.data.persistence.DataStore#serialize(ValueContainer, BitSet,
+         * org.spongepowered.api.data.persistence.DataView)} only writes the
+         * data that changed.</p>
+         *
+         * @param dirtyKeys The bit set to add the ordinals of the dirty keys to
+         * @return The given bit set, for chaining
+         */
+        BitSet drainDirtyKeys(BitSet dirtyKeys);
+
         /**
          * Performs an absolute copy of all {@link org.spongepowered.api.data.value.Value.Mutable}s and
          * {@link ValueContainer}s to this {@link Mutable} such that
@@ -32,7 +32,12 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * A manager of the overall Data API. This handles the registration of
@@ -77,6 +82,10 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The composed updater is cached per class and version pair, such
+     * that repeated lookups return the same updater without resolving the
+     * chain again, until another updater is registered for the class.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -85,6 +94,57 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<DataContentUpdater> wrappedContentUpdater(Class<T> clazz, int fromVersion, int toVersion);
 
+    /**
+     * Updates all of the given {@link DataView}s to the given version, using
+     * the {@link DataContentUpdater}s registered for the given class, split
+     * across the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+     * fork-join pool}.
+     *
+     * <p>Each view is updated from its own version, as stored at
+     * {@link org.spongepowered.api.data.persistence.Queries#CONTENT_VERSION},
+     * or from the given {@code fromVersion} if it has none, and has its
+     * version set to {@code toVersion} once updated. The updated views are
+     * collected in the order of the given collection.</p>
+     *
+     * <p>If no chain of updaters covers the complete jump, the returned
+     * future completes exceptionally with an
+     * {@link IllegalArgumentException}.</p>
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version of views that do not declare their own
+     * @param toVersion The version converting to
+     * @param views The views to update
+     * @param <T> The type of data serializable
+     * @return A future completed with the updated views and the report of
+     *     the update once all views have been updated
+     */
+    <T extends DataSerializable> CompletableFuture<UpdatedContent> updateContent(Class<T> clazz, int fromVersion, int toVersion,
+        Collection<? extends DataView> views);
+
+    /**
+     * Updates all of the {@link DataView}s of the given stream to the given
+     * version, the same way as
+     * {@link #updateContent(Class, int, int, Collection)} does, handing each
+     * updated view to the given consumer instead of collecting them.
+     *
+     * <p>The stream is consumed in parallel on the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join
+     * pool}, such that views of any number can be updated without holding
+     * all of them in memory. The consumer is called concurrently from the
+     * threads of the pool, in no particular order.</p>
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version of views that do not declare their own
+     * @param toVersion The version converting to
+     * @param views The views to update
+     * @param consumer The consumer of the updated views
+     * @param <T> The type of data serializable
+     * @return A future completed with the report of the update once all
+     *     views have been updated
+     */
+    <T extends DataSerializable> CompletableFuture<DataContentUpdater.Report> updateContent(Class<T> clazz, int fromVersion, int toVersion,
+        Stream<? extends DataView> views, Consumer<? super DataView> consumer);
+
     /**
      * Attempts to retrieve the {@link DataBuilder} for the desired
      * {@link DataSerializable} class.
@@ -177,4 +237,27 @@ public interface DataManager {
      */
     DataContainer createContainer(DataView.SafetyMode safety);
 
+    /**
+     * The result of updating a collection of {@link DataView}s through
+     * {@link #updateContent(Class, int, int, Collection)}.
+     */
+    interface UpdatedContent {
+
+        /**
+         * Gets the updated views, in the order of the views they were updated
+         * from.
+         *
+         * @return The updated views
+         */
+        List<DataView> views();
+
+        /**
+         * Gets the report of the update.
+         *
+         * @return The report
+         */
+        DataContentUpdater.Report report();
+
+    }
+
 }
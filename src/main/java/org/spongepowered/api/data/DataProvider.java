@@ -128,6 +128,18 @@ default boolean isSupported(final TypeToken<? extends DataHolder> dataHolder) {
         return this.isSupported(dataHolder.getType());
     }
 
+    /**
+     * Gets whether this value provider is supported by all
+     * {@link DataHolder}s of the given type.
+     *
+     * <p>The result must only depend on the given type. It is asked once per
+     * concrete holder class, such that the providers of all keys can be
+     * looked up from a table indexed by {@link Key#ordinal()} for every
+     * further access to holders of that class.</p>
+     *
+     * @param dataHolder The type of data holder
+     * @return Whether it's supported
+     */
     boolean isSupported(Type dataHolder);
 
     DataTransactionResult offer(DataHolder.Mutable dataHolder, E element);
@@ -136,6 +148,21 @@ default DataTransactionResult offerValue(DataHolder.Mutable dataHolder, V value)
         return this.offer(dataHolder, value.get());
     }
 
+    /**
+     * Offers the given element to the given {@link DataHolder.Mutable} the
+     * same way as {@link #offer(DataHolder.Mutable, Object)} does, but only
+     * reports whether the offer was successful, without building a
+     * {@link DataTransactionResult} or any
+     * {@link org.spongepowered.api.data.value.Value.Immutable} snapshots.
+     *
+     * @param dataHolder The data holder
+     * @param element The element to offer
+     * @return True if the element was set
+     */
+    default boolean offerFast(final DataHolder.Mutable dataHolder, final E element) {
+        return this.offer(dataHolder, element).isSuccessful();
+    }
+
     DataTransactionResult remove(DataHolder.Mutable dataHolder);
 
     <I extends DataHolder.Immutable<I>> Optional<I> with(I immutable, E element);
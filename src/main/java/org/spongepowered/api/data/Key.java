@@ -98,6 +98,19 @@ static <E, V extends Value<E>> Key<V> of(final ResourceKey resourceKey, final Ty
                 .build();
     }
 
+    /**
+     * Gets the ordinal of this key, a dense index assigned to each key once it
+     * is registered.
+     *
+     * <p>Ordinals start at zero and are assigned without gaps, such that they
+     * can be used as indices into arrays or bit sets, as done by
+     * {@link KeyedValues}. They are only valid for the running game and must
+     * never be persisted.</p>
+     *
+     * @return The ordinal
+     */
+    int ordinal();
+
     /**
      * Gets the type of the {@link Value} this {@link Key} is representing.
      *
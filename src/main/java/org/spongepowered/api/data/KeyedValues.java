@@ -0,0 +1,143 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.value.Value;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A reusable container of the values of many {@link Key}s, as filled by
+ * {@link DataHolder#getAll(java.util.Set, KeyedValues)}.
+ *
+ * <p>Values are stored in an array indexed by {@link Key#ordinal()}, such
+ * that neither storing nor looking up a value requires hashing, and
+ * {@link #clear() clearing} the container keeps its storage for the next
+ * use. A container is not thread safe.</p>
+ */
+public final class KeyedValues {
+
+    private @Nullable Object[] values = new Object[0];
+    private final BitSet present = new BitSet();
+    private int size;
+
+    /**
+     * Sets the value of the given {@link Key}, replacing any previous value.
+     *
+     * @param key The key
+     * @param value The value
+     * @param <E> The type of value
+     * @return This container, for chaining
+     */
+    public <E> KeyedValues put(final Key<? extends Value<E>> key, final E value) {
+        Objects.requireNonNull(value, "value");
+        final int ordinal = key.ordinal();
+        if (ordinal >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(ordinal + 1, this.values.length * 2));
+        }
+        if (!this.present.get(ordinal)) {
+            this.present.set(ordinal);
+            this.size++;
+        }
+        this.values[ordinal] = value;
+        return this;
+    }
+
+    /**
+     * Gets whether this container holds a value for the given {@link Key}.
+     *
+     * @param key The key
+     * @return True if a value is present
+     */
+    public boolean contains(final Key<?> key) {
+        return this.present.get(key.ordinal());
+    }
+
+    /**
+     * Gets the value of the given {@link Key}, if present.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, if present
+     */
+    public <E> Optional<E> get(final Key<? extends Value<E>> key) {
+        return Optional.ofNullable(this.getOrNull(key));
+    }
+
+    /**
+     * Gets the value of the given {@link Key}, or {@code null} if it is not
+     * present.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, or null if not present
+     */
+    @SuppressWarnings("unchecked")
+    public <E> @Nullable E getOrNull(final Key<? extends Value<E>> key) {
+        final int ordinal = key.ordinal();
+        if (ordinal >= this.values.length) {
+            return null;
+        }
+        return (E) this.values[ordinal];
+    }
+
+    /**
+     * Gets the number of values held by this container.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether this container holds no values.
+     *
+     * @return True if no values are present
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all values from this container, keeping its storage for
+     * further use.
+     *
+     * @return This container, for chaining
+     */
+    public KeyedValues clear() {
+        for (int i = this.present.nextSetBit(0); i >= 0; i = this.present.nextSetBit(i + 1)) {
+            this.values[i] = null;
+        }
+        this.present.clear();
+        this.size = 0;
+        return this;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which a {@link DataTranslator}, and if the class is
+ * {@link DataSerializable} also a {@link DataBuilder}, is generated at
+ * compile time by the annotation processor shipped with the API.
+ *
+ * <p>For a class {@code Example}, the generated {@code ExampleDataTranslator}
+ * is placed in the same package and provides a shared instance through its
+ * {@code INSTANCE} field. If {@code Example} is {@link DataSerializable}, an
+ * {@code ExampleDataBuilder} is generated as well, which can be registered
+ * through {@link org.spongepowered.api.data.DataManager#registerBuilder}
+ * without any reflection. Nested classes have the names of their enclosing
+ * classes prepended, separated by underscores.</p>
+ *
+ * <p>Every non-static, non-transient field declared by the class is
+ * serialized at a {@link DataQuery} of its name, or of its {@link Query}.
+ * The generated code accesses these fields directly, such that they must
+ * not be private. Instances are created through a non-private constructor
+ * taking all serialized fields in declaration order if there is one, or
+ * otherwise through a non-private constructor without parameters, in which
+ * case the serialized fields must not be final.</p>
+ *
+ * <p>Fields of primitive types are required when deserializing, while
+ * fields of any other type are left {@code null} if their data is absent
+ * and are not serialized while {@code null}. Deserializing throws an
+ * {@link InvalidDataException} if the data of a primitive field is absent,
+ * or if the data of an enum does not name one of its constants. Supported are primitives other
+ * than {@code char} and their wrappers, {@link String}s, enums,
+ * {@link org.spongepowered.api.ResourceKey}s, {@link DataView}s,
+ * {@link DataSerializable}s, {@link java.util.List}s of any of these, and any
+ * other type for which a {@link DataTranslator} is registered, except for
+ * {@link Character}s.</p>
+ */
+@Documented
+@Retention(CLASS)
+@Target(TYPE)
+public @interface DataCodec {
+
+    /**
+     * The content version written to {@link Queries#CONTENT_VERSION}, which
+     * must match {@link DataSerializable#contentVersion()} for
+     * {@link DataSerializable} classes.
+     *
+     * @return The content version
+     */
+    int version() default 1;
+
+    /**
+     * Overrides the {@link DataQuery} a field is serialized at.
+     */
+    @Documented
+    @Retention(CLASS)
+    @Target(FIELD)
+    @interface Query {
+
+        /**
+         * The path of the field's data, separated by {@code '.'}.
+         *
+         * @return The path
+         */
+        String value();
+
+    }
+
+}
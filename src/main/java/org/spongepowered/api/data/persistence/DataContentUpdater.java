@@ -26,6 +26,62 @@
 
 import org.spongepowered.api.util.Updater;
 
+import java.util.List;
+
 public interface DataContentUpdater extends Updater<DataView> {
 
+    /**
+     * A report of a bulk update of many {@link DataView}s, as performed by
+     * {@link org.spongepowered.api.data.DataManager#updateContent}.
+     */
+    interface Report {
+
+        /**
+         * Gets the version the views were updated to.
+         *
+         * @return The output version
+         */
+        int toVersion();
+
+        /**
+         * Gets the {@link DataContentUpdater}s of the chain used by the
+         * update, in the order they are applied.
+         *
+         * @return The steps of the update
+         */
+        List<DataContentUpdater> steps();
+
+        /**
+         * Gets the number of views the step at the given index of
+         * {@link #steps()} was applied to.
+         *
+         * <p>Views already past the input version of a step are not touched
+         * by it, such that the counts of the steps differ when the updated
+         * views were of different versions.</p>
+         *
+         * @param step The index of the step
+         * @return The number of views the step was applied to
+         * @throws IndexOutOfBoundsException If there is no step at the index
+         */
+        long touched(int step);
+
+        /**
+         * Gets the total number of views processed by the update, including
+         * the views that were already up to date and those that failed.
+         *
+         * @return The number of processed views
+         */
+        long processed();
+
+        /**
+         * Gets the number of views for which any step of the update threw an
+         * exception. Such views are passed on as they were before the
+         * failing step.
+         *
+         * @return The number of failed views
+         */
+        long failed();
+
+    }
+
 }
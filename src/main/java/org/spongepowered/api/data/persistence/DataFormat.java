@@ -30,6 +30,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Represents a parser for a particular file format allowing reading and writing
@@ -60,4 +61,60 @@ public interface DataFormat extends DefaultedRegistryValue {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Creates a new {@link EncodedDataContainer} over the contents of the
+     * given {@link ByteBuffer}, decoding the data only once it is queried.
+     *
+     * <p>Only the data needed to locate the root of the contents is read
+     * eagerly, any data that is malformed beyond that results in an
+     * {@link InvalidDataException} when it is first queried. Formats that
+     * cannot be decoded partially may decode the contents as a whole once
+     * any data is queried.</p>
+     *
+     * @param input The buffer holding the encoded data
+     * @return A data container backed by the buffer
+     * @throws InvalidDataFormatException If the data in the buffer was not a
+     *         supported format
+     */
+    EncodedDataContainer readLazily(ByteBuffer input) throws InvalidDataFormatException;
+
+    /**
+     * Creates a new {@link DataReader} reading the contents of the given
+     * {@link InputStream} one token at a time.
+     *
+     * <p>Unlike {@link #readFrom(InputStream)}, the data is not materialized
+     * as a whole, such that the formats provided by {@link DataFormats#NBT}
+     * and {@link DataFormats#JSON} can read data of any size with a constant
+     * amount of memory. Formats that cannot be read incrementally may read
+     * the data as a whole before handing out its tokens.</p>
+     *
+     * <p>Closing the reader closes the input stream.</p>
+     *
+     * @param input The input stream
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataReader reader(InputStream input) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataWriter} writing to the given
+     * {@link OutputStream} one token at a time.
+     *
+     * <p>Unlike {@link #writeTo(OutputStream, DataView)}, the data does not
+     * need to be available as a whole, such that the formats provided by
+     * {@link DataFormats#NBT} and {@link DataFormats#JSON} can write data of
+     * any size with a constant amount of memory. Formats that cannot be
+     * written incrementally may hold the data until the writer is
+     * closed.</p>
+     *
+     * <p>Closing the writer closes the output stream.</p>
+     *
+     * @param output The output stream to write the data to
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter writer(OutputStream output) throws IOException;
+
 }
@@ -24,62 +24,86 @@
  */
 package org.spongepowered.api.data.persistence;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Spliterator;
 import java.util.StringJoiner;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>A query is stored as its last part linked to the query of its
+ * preceding parts, such that queries built from a common prefix share it.
+ * Appending a part with {@link #then(String)} or removing the last part with
+ * {@link #pop()} therefore does not copy the query.</p>
  */
 public final class DataQuery implements Iterable<String> {
 
     private static final DataQuery EMPTY = new DataQuery();
 
     /**
-     * The parts that make up this query.
+     * Interns the parts of queries, such that equal parts share a single
+     * instance and are compared by reference first.
      */
-    private final ImmutableList<String> parts;
+    private static final Interner<String> PARTS = Interners.newWeakInterner();
 
-    private @MonotonicNonNull ImmutableList<DataQuery> queryParts; //lazy loaded
+    /**
+     * Caches the queries parsed from paths using the {@code '.'} separator,
+     * by far the most common way queries are constructed from strings.
+     */
+    private static final Cache<String, DataQuery> DOTTED_PATHS = Caffeine.newBuilder()
+        .maximumSize(4096)
+        .build();
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The query made up of every part but the last, {@code null} only for
+     * the empty query.
      */
-    private DataQuery(final char separator, final String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final @Nullable DataQuery parent;
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * The last part of this query, empty for the empty query.
+     */
+    private final String part;
+
+    private final int size;
+    private final int hash;
+
+    private @MonotonicNonNull ImmutableList<String> parts; //lazy loaded
+    private @MonotonicNonNull ImmutableList<DataQuery> queryParts; //lazy loaded
+
+    /**
+     * Constructs the empty query.
      */
-    private DataQuery(final String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery() {
+        this.parent = null;
+        this.part = "";
+        this.size = 0;
+        this.hash = 1;
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Constructs a query made up of the parent's parts followed by the given
+     * part.
      *
-     * @param parts The parts
+     * @param parent The parent
+     * @param part The interned part
      */
-    private DataQuery(final List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(final DataQuery parent, final String part) {
+        this.parent = parent;
+        this.part = part;
+        this.size = parent.size + 1;
+        this.hash = 31 * parent.hash + part.hashCode();
     }
 
     /**
@@ -105,7 +129,10 @@ public static DataQuery of() {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final char separator, final String path) {
-        return new DataQuery(separator, path);
+        if (separator == '.') {
+            return DataQuery.DOTTED_PATHS.get(path, dotted -> DataQuery.parse('.', dotted));
+        }
+        return DataQuery.parse(separator, path);
     }
 
     /**
@@ -115,10 +142,11 @@ public static DataQuery of(final char separator, final String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.then(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -128,10 +156,41 @@ public static DataQuery of(final String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.then(part);
         }
-        return new DataQuery(parts);
+        return query;
+    }
+
+    /**
+     * Splits the path the same way {@link String#split(String)} does with the
+     * separator as a literal, without compiling a pattern.
+     *
+     * @param separator The separator
+     * @param path The path
+     * @return The parsed query
+     */
+    private static DataQuery parse(final char separator, final String path) {
+        if (path.isEmpty()) {
+            return DataQuery.EMPTY.then(path);
+        }
+        // Trailing empty parts are discarded, like String#split does
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == separator) {
+            end--;
+        }
+        DataQuery query = DataQuery.EMPTY;
+        int start = 0;
+        while (start < end) {
+            int next = path.indexOf(separator, start);
+            if (next == -1 || next > end) {
+                next = end;
+            }
+            query = query.then(path.substring(start, next));
+            start = next + 1;
+        }
+        return query;
     }
 
     /**
@@ -140,6 +199,15 @@ public static DataQuery of(final List<String> parts) {
      * @return The parts of this query
      */
     public List<String> parts() {
+        if (this.parts == null) {
+            final String[] elements = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                elements[i] = query.part;
+                query = query.parent;
+            }
+            this.parts = ImmutableList.copyOf(elements);
+        }
         return this.parts;
     }
 
@@ -151,12 +219,17 @@ public List<String> parts() {
      * @return The constructed query
      */
     public DataQuery then(final DataQuery that) {
-        final ImmutableList.Builder<String> builder = new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.size == 0) {
+            return this;
+        }
+        if (this.size == 0) {
+            return that;
+        }
+        DataQuery query = this;
+        for (final String part : that.parts()) {
+            query = new DataQuery(query, part);
+        }
+        return query;
     }
 
     /**
@@ -167,13 +240,7 @@ public DataQuery then(final DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(final String that) {
-        final ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        return new DataQuery(this, DataQuery.PARTS.intern(that));
     }
 
     /**
@@ -186,7 +253,7 @@ public List<DataQuery> queryParts() {
         if (this.queryParts == null) {
             final ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
             for (final String part : this.parts()) {
-                builder.add(new DataQuery(part));
+                builder.add(new DataQuery(DataQuery.EMPTY, part));
             }
             this.queryParts = builder.build();
         }
@@ -201,14 +268,10 @@ public List<DataQuery> queryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return DataQuery.of();
-        }
-        final ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
+        if (this.parent == null) {
+            return DataQuery.EMPTY;
         }
-        return new DataQuery(builder.build());
+        return this.parent;
     }
 
     /**
@@ -219,14 +282,15 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return DataQuery.of();
         }
-        final ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        final List<String> elements = this.parts();
+        DataQuery query = DataQuery.EMPTY;
+        for (int i = 1; i < elements.size(); i++) {
+            query = new DataQuery(query, elements.get(i));
         }
-        return new DataQuery(builder.build());
+        return query;
     }
 
     /**
@@ -236,10 +300,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return new DataQuery(DataQuery.EMPTY, this.part);
     }
 
     /**
@@ -250,7 +314,7 @@ public DataQuery last() {
      */
     public String asString(final String separator) {
         final StringJoiner stringJoiner = new StringJoiner(separator);
-        this.parts.forEach(stringJoiner::add);
+        this.parts().forEach(stringJoiner::add);
         return stringJoiner.toString();
     }
 
@@ -271,7 +335,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -283,22 +347,35 @@ public boolean equals(final Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equals(this.parts, other.parts);
+        if (this.size != other.size || this.hash != other.hash) {
+            return false;
+        }
+        DataQuery query = this;
+        DataQuery otherQuery = other;
+        // Stop as soon as both queries share the remaining prefix
+        while (query != otherQuery && query.parent != null && otherQuery.parent != null) {
+            if (!query.part.equals(otherQuery.part)) {
+                return false;
+            }
+            query = query.parent;
+            otherQuery = otherQuery.parent;
+        }
+        return true;
     }
 
     @Override
     public Iterator<String> iterator() {
-        return this.parts.iterator();
+        return this.parts().iterator();
     }
 
     @Override
     public void forEach(final Consumer<? super String> action) {
-        this.parts.forEach(action);
+        this.parts().forEach(action);
     }
 
     @Override
     public Spliterator<String> spliterator() {
-        return this.parts.spliterator();
+        return this.parts().spliterator();
     }
 
 }
@@ -0,0 +1,340 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A pull based reader of data in a specific {@link DataFormat}, reading the
+ * data one {@link Token} at a time instead of materializing it as a whole
+ * {@link DataContainer}.
+ *
+ * <p>Readers allow large files to be scanned, filtered or converted while
+ * only holding the data currently being read in memory. Subtrees that are of
+ * interest can still be materialized as {@link DataView}s through
+ * {@link #readView()}, {@link #readValue()} or
+ * {@link #readSelected(Collection)}.</p>
+ *
+ * <p>The root of the data is always a view, such that the first token of
+ * any reader is {@link Token#START_VIEW}.</p>
+ */
+public interface DataReader extends Closeable {
+
+    /**
+     * Gets the type of the next token without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If there was an error reading the data
+     */
+    Token peek() throws IOException;
+
+    /**
+     * Gets whether the current view or list has another entry, that is if
+     * the next token is neither {@link Token#END_VIEW}, {@link Token#END_LIST}
+     * nor {@link Token#END_DOCUMENT}.
+     *
+     * @return True if the current view or list has another entry
+     * @throws IOException If there was an error reading the data
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be
+     * {@link Token#START_VIEW}.
+     *
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         view
+     */
+    void startView() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be
+     * {@link Token#END_VIEW}.
+     *
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the end of a
+     *         view
+     */
+    void endView() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be
+     * {@link Token#START_LIST}.
+     *
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         list
+     */
+    void startList() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be
+     * {@link Token#END_LIST}.
+     *
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the end of a
+     *         list
+     */
+    void endList() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be {@link Token#KEY}, and
+     * gets the key of the entry that follows.
+     *
+     * @return The key
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a key
+     */
+    String nextKey() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be {@link Token#VALUE},
+     * and gets its value.
+     *
+     * <p>Values are the same objects a {@link DataView} of this format would
+     * hold, for example boxed numbers, {@link String}s or primitive arrays
+     * such as {@code int[]}.</p>
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a value
+     */
+    Object nextValue() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be a numeric
+     * {@link Token#VALUE}, and gets it as an {@code int} without boxing it.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a numeric value
+     */
+    int nextInt() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be a numeric
+     * {@link Token#VALUE}, and gets it as a {@code long} without boxing it.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a numeric value
+     */
+    long nextLong() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be a numeric
+     * {@link Token#VALUE}, and gets it as a {@code double} without boxing it.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a numeric value
+     */
+    double nextDouble() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be a boolean
+     * {@link Token#VALUE}, and gets it without boxing it.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a boolean value
+     */
+    boolean nextBoolean() throws IOException;
+
+    /**
+     * Consumes the next token, which is expected to be a {@link Token#VALUE},
+     * and gets it as a {@link String}.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not a value
+     */
+    String nextString() throws IOException;
+
+    /**
+     * Skips the next value, including all of its contents if it is a view or
+     * a list, without materializing it.
+     *
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         value
+     */
+    void skipValue() throws IOException;
+
+    /**
+     * Reads the view starting at the next token as a whole into a new
+     * {@link DataContainer}.
+     *
+     * @return The view
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         view
+     */
+    default DataContainer readView() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        this.startView();
+        while (this.hasNext()) {
+            final String key = this.nextKey();
+            container.set(DataQuery.of(key), this.readValue());
+        }
+        this.endView();
+        return container;
+    }
+
+    /**
+     * Reads the list starting at the next token as a whole.
+     *
+     * @return The list
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         list
+     */
+    default List<Object> readList() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        this.startList();
+        while (this.hasNext()) {
+            list.add(this.readValue());
+        }
+        this.endList();
+        return list;
+    }
+
+    /**
+     * Reads the value starting at the next token as a whole, which is a
+     * {@link DataView} for views, a {@link List} for lists or the value
+     * itself otherwise.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         value
+     */
+    default Object readValue() throws IOException {
+        switch (this.peek()) {
+            case START_VIEW:
+                return this.readView();
+            case START_LIST:
+                return this.readList();
+            default:
+                return this.nextValue();
+        }
+    }
+
+    /**
+     * Reads the view starting at the next token, materializing only the
+     * values at the given paths into a new {@link DataContainer}. The
+     * values are placed at the same paths within the returned container.
+     *
+     * <p>Views that do not lead to any of the given paths are skipped
+     * without being materialized, such that only the selected subtrees are
+     * held in memory.</p>
+     *
+     * @param paths The paths of the values to materialize
+     * @return The container holding the selected values
+     * @throws IOException If there was an error reading the data
+     * @throws InvalidDataException If the next token is not the start of a
+     *         view
+     */
+    default DataContainer readSelected(final Collection<DataQuery> paths) throws IOException {
+        Objects.requireNonNull(paths, "paths");
+
+        final Set<DataQuery> selected = new HashSet<>(paths);
+        final Set<DataQuery> parents = new HashSet<>();
+        for (final DataQuery path : selected) {
+            for (DataQuery parent = path.pop(); !parent.equals(DataQuery.of()); parent = parent.pop()) {
+                parents.add(parent);
+            }
+        }
+
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        DataQuery current = DataQuery.of();
+        this.startView();
+        while (true) {
+            if (!this.hasNext()) {
+                this.endView();
+                if (current.equals(DataQuery.of())) {
+                    return container;
+                }
+                current = current.pop();
+                continue;
+            }
+            final DataQuery path = current.then(this.nextKey());
+            if (selected.contains(path)) {
+                container.set(path, this.readValue());
+            } else if (parents.contains(path) && this.peek() == Token.START_VIEW) {
+                this.startView();
+                current = path;
+            } else {
+                this.skipValue();
+            }
+        }
+    }
+
+    /**
+     * The types of tokens read by a {@link DataReader}.
+     */
+    enum Token {
+
+        /**
+         * The start of a view, followed by its entries, each being a
+         * {@link #KEY} followed by a value.
+         */
+        START_VIEW,
+        /**
+         * The end of a view.
+         */
+        END_VIEW,
+        /**
+         * The start of a list, followed by its values.
+         */
+        START_LIST,
+        /**
+         * The end of a list.
+         */
+        END_LIST,
+        /**
+         * The key of an entry within a view.
+         */
+        KEY,
+        /**
+         * A value that is neither a view nor a list.
+         */
+        VALUE,
+        /**
+         * The end of the data.
+         */
+        END_DOCUMENT
+
+    }
+
+}
@@ -31,9 +31,11 @@
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
+import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.util.ResettableBuilder;
 
 import java.lang.reflect.Type;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -95,6 +97,25 @@ default DataView serialize(DataManipulator dataManipulator) {
         return dataView;
     }
 
+    /**
+     * Serializes only the values of the {@link Key}s of this store whose
+     * {@link Key#ordinal() ordinals} are set in the given dirty keys into the
+     * {@link DataView}, leaving the data of all other keys as it is.
+     *
+     * <p>Dirty keys without a value in the given container have their data
+     * removed from the view. Applying this to the view of a previous
+     * serialization of the same container therefore results in the same
+     * view as serializing the container as a whole, while only touching the
+     * data of the keys that changed, as tracked by
+     * {@link DataHolder.Mutable#drainDirtyKeys(BitSet)}.</p>
+     *
+     * @param values The value container, usually the data holder itself
+     * @param dirtyKeys The ordinals of the keys to serialize
+     * @param view The data view to serialize to
+     * @return The view, for chaining
+     */
+    DataView serialize(ValueContainer values, BitSet dirtyKeys, DataView view);
+
     /**
      * Deserializes the data from the {@link DataView} and puts
      * it in the {@link org.spongepowered.api.data.DataManipulator.Mutable}.
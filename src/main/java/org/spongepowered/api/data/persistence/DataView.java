@@ -227,6 +227,18 @@ public interface DataView {
      */
     Optional<Boolean> getBoolean(DataQuery path);
 
+    /**
+     * Gets the {@code boolean} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The boolean, or the default value
+     */
+    default boolean getBoolean(final DataQuery path, final boolean defaultValue) {
+        return this.getBoolean(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Short} by path, if available.
      *
@@ -239,6 +251,18 @@ public interface DataView {
      */
     Optional<Short> getShort(DataQuery path);
 
+    /**
+     * Gets the {@code short} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The short, or the default value
+     */
+    default short getShort(final DataQuery path, final short defaultValue) {
+        return this.getShort(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Byte} by path, if available.
      *
@@ -251,6 +275,18 @@ public interface DataView {
      */
     Optional<Byte> getByte(DataQuery path);
 
+    /**
+     * Gets the {@code byte} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The byte, or the default value
+     */
+    default byte getByte(final DataQuery path, final byte defaultValue) {
+        return this.getByte(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Integer} by path, if available.
      *
@@ -263,6 +299,23 @@ public interface DataView {
      */
     Optional<Integer> getInt(DataQuery path);
 
+    /**
+     * Gets the {@code int} by path, or the given default value if it is not
+     * available.
+     *
+     * <p>Unlike {@link #getInt(DataQuery)}, implementations are expected to
+     * read the value without boxing it or wrapping it in an {@link Optional},
+     * which makes this and the other accessors taking a default value the
+     * preferred way to read large amounts of numeric data.</p>
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The int, or the default value
+     */
+    default int getInt(final DataQuery path, final int defaultValue) {
+        return this.getInt(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Long} by path, if available.
      *
@@ -275,6 +328,18 @@ public interface DataView {
      */
     Optional<Long> getLong(DataQuery path);
 
+    /**
+     * Gets the {@code long} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The long, or the default value
+     */
+    default long getLong(final DataQuery path, final long defaultValue) {
+        return this.getLong(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Float} by path, if available.
      *
@@ -287,6 +352,18 @@ public interface DataView {
      */
     Optional<Float> getFloat(DataQuery path);
 
+    /**
+     * Gets the {@code float} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The float, or the default value
+     */
+    default float getFloat(final DataQuery path, final float defaultValue) {
+        return this.getFloat(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link Double} by path, if available.
      *
@@ -299,6 +376,18 @@ public interface DataView {
      */
     Optional<Double> getDouble(DataQuery path);
 
+    /**
+     * Gets the {@code double} by path, or the given default value if it is not
+     * available.
+     *
+     * @param path The path of the value to get
+     * @param defaultValue The value to return if none is available
+     * @return The double, or the default value
+     */
+    default double getDouble(final DataQuery path, final double defaultValue) {
+        return this.getDouble(path).orElse(defaultValue);
+    }
+
     /**
      * Gets the {@link String} by path, if available.
      *
@@ -456,6 +545,96 @@ default Optional<List<ResourceKey>> getResourceKeyList(final DataQuery path) {
      */
     Optional<List<Long>> getLongList(DataQuery path);
 
+    /**
+     * Gets the {@code byte[]} by path, if available.
+     *
+     * <p>If the data residing at the path is a {@code byte[]}, it is returned
+     * as is, without copying, unless this view's {@link #safetyMode()} is
+     * {@link SafetyMode#ALL_DATA_CLONED}. Callers must then not modify the
+     * returned array unless they intend to modify the data of this view. If
+     * the data residing at the path is a list of {@link Byte}s, a new array is
+     * created from it.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array, if available
+     */
+    default Optional<byte[]> getByteArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof byte[]) {
+            final byte[] array = (byte[]) value.get();
+            return Optional.of(this.safetyMode() == SafetyMode.ALL_DATA_CLONED ? array.clone() : array);
+        }
+        return this.getByteList(path).map(list -> {
+            final byte[] array = new byte[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the {@code int[]} by path, if available.
+     *
+     * <p>If the data residing at the path is a {@code int[]}, it is returned
+     * as is, without copying, unless this view's {@link #safetyMode()} is
+     * {@link SafetyMode#ALL_DATA_CLONED}. Callers must then not modify the
+     * returned array unless they intend to modify the data of this view. If
+     * the data residing at the path is a list of {@link Integer}s, a new array is
+     * created from it.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array, if available
+     */
+    default Optional<int[]> getIntArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof int[]) {
+            final int[] array = (int[]) value.get();
+            return Optional.of(this.safetyMode() == SafetyMode.ALL_DATA_CLONED ? array.clone() : array);
+        }
+        return this.getIntegerList(path).map(list -> {
+            final int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the {@code long[]} by path, if available.
+     *
+     * <p>If the data residing at the path is a {@code long[]}, it is returned
+     * as is, without copying, unless this view's {@link #safetyMode()} is
+     * {@link SafetyMode#ALL_DATA_CLONED}. Callers must then not modify the
+     * returned array unless they intend to modify the data of this view. If
+     * the data residing at the path is a list of {@link Long}s, a new array is
+     * created from it.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array, if available
+     */
+    default Optional<long[]> getLongArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof long[]) {
+            final long[] array = (long[]) value.get();
+            return Optional.of(this.safetyMode() == SafetyMode.ALL_DATA_CLONED ? array.clone() : array);
+        }
+        return this.getLongList(path).map(list -> {
+            final long[] array = new long[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
     /**
      * Gets the {@link List} of {@link Float} by path, if available.
      *
@@ -0,0 +1,195 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A push based writer of data in a specific {@link DataFormat}, writing the
+ * data one token at a time instead of requiring a complete {@link DataView}.
+ *
+ * <p>The root of the data is always a view, such that the first call to any
+ * writer must be {@link #startView()}. Within a view, every entry is written
+ * as a {@link #key(String)} followed by a value, and closing the writer
+ * after the root view has ended completes the data.</p>
+ *
+ * @see DataReader
+ */
+public interface DataWriter extends Closeable, Flushable {
+
+    /**
+     * Starts a new view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter startView() throws IOException;
+
+    /**
+     * Ends the current view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     * @throws IllegalStateException If the current value is not a view
+     */
+    DataWriter endView() throws IOException;
+
+    /**
+     * Starts a new list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter startList() throws IOException;
+
+    /**
+     * Ends the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     * @throws IllegalStateException If the current value is not a list
+     */
+    DataWriter endList() throws IOException;
+
+    /**
+     * Writes the key of the next entry within the current view.
+     *
+     * @param key The key
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     * @throws IllegalStateException If the current value is not a view
+     */
+    DataWriter key(String key) throws IOException;
+
+    /**
+     * Writes a value that is neither a view nor a list, for example a boxed
+     * number, a {@link String} or a primitive array such as {@code int[]}.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     * @throws IllegalArgumentException If the value is not supported by the
+     *         format
+     */
+    DataWriter value(Object value) throws IOException;
+
+    /**
+     * Writes an {@code int} value without boxing it.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter value(int value) throws IOException;
+
+    /**
+     * Writes a {@code long} value without boxing it.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter value(long value) throws IOException;
+
+    /**
+     * Writes a {@code double} value without boxing it.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter value(double value) throws IOException;
+
+    /**
+     * Writes a {@code boolean} value without boxing it.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    DataWriter value(boolean value) throws IOException;
+
+    /**
+     * Writes the given {@link DataView} as a whole as a view.
+     *
+     * @param view The view
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     */
+    default DataWriter writeView(final DataView view) throws IOException {
+        Objects.requireNonNull(view, "view");
+
+        this.startView();
+        for (final Map.Entry<DataQuery, Object> entry : view.values(false).entrySet()) {
+            this.key(entry.getKey().asString('.'));
+            this.writeValue(entry.getValue());
+        }
+        return this.endView();
+    }
+
+    /**
+     * Writes the given value as a whole, writing {@link DataView}s,
+     * {@link DataSerializable}s and {@link Map}s as views,
+     * {@link Collection}s as lists and any other object as a value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing the data
+     * @throws IllegalArgumentException If the value is not supported by the
+     *         format
+     */
+    default DataWriter writeValue(final Object value) throws IOException {
+        Objects.requireNonNull(value, "value");
+
+        if (value instanceof DataView) {
+            return this.writeView((DataView) value);
+        }
+        if (value instanceof DataSerializable) {
+            return this.writeView(((DataSerializable) value).toContainer());
+        }
+        if (value instanceof Map) {
+            this.startView();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                this.key(String.valueOf(entry.getKey()));
+                this.writeValue(entry.getValue());
+            }
+            return this.endView();
+        }
+        if (value instanceof Collection) {
+            this.startList();
+            for (final Object element : (Collection<?>) value) {
+                this.writeValue(element);
+            }
+            return this.endList();
+        }
+        return this.value(value);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link DataContainer} backed by the encoded bytes of a
+ * {@link DataFormat}, decoding the data of a path only once a query
+ * touches it.
+ *
+ * <p>Reading a single value of a large structure, such as the inhabited
+ * time of a chunk, therefore only decodes the views leading to that value,
+ * while the remaining data is left as is in the backing buffer. Decoded
+ * views are kept, such that every path is decoded at most once.</p>
+ *
+ * <p>The backing buffer may be a {@link java.nio.MappedByteBuffer}. It is
+ * never modified by the container, but must also not be modified by anyone
+ * else for as long as the container is in use.</p>
+ *
+ * <p>Changes made to the container are held by the container itself, and
+ * are only written to the encoded form through {@link #encode()} or
+ * {@link #writeTo(WritableByteChannel)}, which copy the bytes of any
+ * untouched data verbatim from the backing buffer instead of encoding it
+ * again.</p>
+ */
+public interface EncodedDataContainer extends DataContainer {
+
+    /**
+     * Creates a new {@link EncodedDataContainer} backed by the given buffer,
+     * holding data encoded in the given {@link DataFormat}.
+     *
+     * @param format The format of the data
+     * @param buffer The buffer holding the encoded data
+     * @return The new data container
+     * @throws InvalidDataFormatException If the data is not encoded in the
+     *         given format
+     * @see DataFormat#readLazily(ByteBuffer)
+     */
+    static EncodedDataContainer of(final DataFormat format, final ByteBuffer buffer) throws InvalidDataFormatException {
+        return format.readLazily(buffer);
+    }
+
+    /**
+     * Gets the {@link DataFormat} the backing data is encoded in.
+     *
+     * @return The data format
+     */
+    DataFormat format();
+
+    /**
+     * Gets a read only view of the buffer holding the encoded data this
+     * container was created from. The buffer does not reflect any changes
+     * made to the container.
+     *
+     * @return The backing buffer
+     */
+    ByteBuffer source();
+
+    /**
+     * Gets whether the data at the given path has been decoded from the
+     * backing buffer.
+     *
+     * @param path The path
+     * @return True if the data at the path has been decoded
+     */
+    boolean isDecoded(DataQuery path);
+
+    /**
+     * Gets whether any data of this container has been changed since it was
+     * created, in which case encoding it differs from its {@link #source()}.
+     *
+     * @return True if any data has been changed
+     */
+    boolean isModified();
+
+    /**
+     * Encodes this container into a new buffer, copying the encoded bytes of
+     * any data that has not been changed from the backing buffer.
+     *
+     * <p>If the container has not been {@link #isModified() modified}, the
+     * returned buffer holds the same bytes as the {@link #source()}.</p>
+     *
+     * @return A new buffer holding the encoded data
+     */
+    ByteBuffer encode();
+
+    /**
+     * Writes the encoded form of this container to the given channel,
+     * copying the encoded bytes of any data that has not been changed from
+     * the backing buffer.
+     *
+     * @param channel The channel to write to
+     * @throws IOException If there was an error writing to the channel
+     * @see #encode()
+     */
+    void writeTo(WritableByteChannel channel) throws IOException;
+
+    @Override
+    EncodedDataContainer set(DataQuery path, Object value);
+
+    @Override
+    EncodedDataContainer remove(DataQuery path);
+
+}
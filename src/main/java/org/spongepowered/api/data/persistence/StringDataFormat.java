@@ -77,4 +77,32 @@ public interface StringDataFormat extends DataFormat {
      */
     void writeTo(Writer output, DataView data) throws IOException;
 
+    /**
+     * Creates a new {@link DataReader} reading the contents of the given
+     * {@link Reader} one token at a time.
+     *
+     * <p>Closing the data reader closes the reader.</p>
+     *
+     * @param input The reader
+     * @return The data reader
+     * @throws InvalidDataException If the data in the reader was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the reader
+     * @see #reader(java.io.InputStream)
+     */
+    DataReader reader(Reader input) throws InvalidDataException, IOException;
+
+    /**
+     * Creates a new {@link DataWriter} writing to the given {@link Writer}
+     * one token at a time.
+     *
+     * <p>Closing the data writer closes the writer.</p>
+     *
+     * @param output The writer to write the data to
+     * @return The data writer
+     * @throws IOException If there was an error writing to the writer
+     * @see #writer(java.io.OutputStream)
+     */
+    DataWriter writer(Writer output) throws IOException;
+
 }
@@ -39,6 +39,11 @@ public interface EventManager {
      * <p>Only methods that are public will be registered and the class must be
      * public as well.</p>
      *
+     * <p>If a {@link ListenerDispatcher} generated for the class of the object
+     * is listed in the {@link ListenerDispatcher#INDEX} of its plugin, the
+     * listener methods are registered through it instead of being discovered
+     * at runtime.</p>
+     *
      * @param plugin The plugin instance
      * @param obj The object
      * @throws IllegalArgumentException Thrown if {@code plugin} is not a plugin
@@ -0,0 +1,143 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import io.leangen.geantyref.TypeToken;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Registers the {@link Listener} methods of a listener class without any
+ * reflection, as generated at compile time by the annotation processor
+ * shipped with the API.
+ *
+ * <p>A dispatcher is generated for every class declaring listener methods
+ * whose filters can all be checked by the generated code, and is listed in
+ * the {@link #INDEX} resource. Filters such as
+ * {@link org.spongepowered.api.event.filter.cause.First} or
+ * {@link org.spongepowered.api.event.filter.IsCancelled} are checked by
+ * direct calls before the listener method is called.
+ * {@link EventManager#registerListeners} uses the dispatcher of the exact
+ * class of a listener object if one is indexed, and otherwise discovers the
+ * listener methods at runtime.</p>
+ *
+ * @param <T> The type of listener
+ */
+public interface ListenerDispatcher<T> {
+
+    /**
+     * The path of the resource listing the binary names of the generated
+     * dispatchers, one per line.
+     */
+    String INDEX = "META-INF/sponge/listener-dispatchers";
+
+    /**
+     * Gets the class of listener this dispatcher registers the listener
+     * methods of.
+     *
+     * @return The listener class
+     */
+    Class<T> listenerType();
+
+    /**
+     * Creates the registrations of all listener methods of the given
+     * listener.
+     *
+     * @param listener The listener
+     * @return The registrations
+     */
+    List<Registration<?>> registrations(T listener);
+
+    /**
+     * A single listener method of a listener, bound to an instance.
+     *
+     * @param <E> The type of event
+     */
+    final class Registration<E extends Event> {
+
+        private final TypeToken<E> eventType;
+        private final Order order;
+        private final boolean beforeModifications;
+        private final EventListener<? super E> listener;
+
+        /**
+         * Creates a new registration.
+         *
+         * @param eventType The type of event the listener method receives
+         * @param order The order of the listener method
+         * @param beforeModifications Whether the listener method is called
+         *     before modifications
+         * @param listener The listener calling the listener method
+         */
+        public Registration(final TypeToken<E> eventType, final Order order, final boolean beforeModifications,
+                final EventListener<? super E> listener) {
+            this.eventType = Objects.requireNonNull(eventType, "eventType");
+            this.order = Objects.requireNonNull(order, "order");
+            this.beforeModifications = beforeModifications;
+            this.listener = Objects.requireNonNull(listener, "listener");
+        }
+
+        /**
+         * Gets the type of event the listener method receives.
+         *
+         * @return The event type
+         */
+        public TypeToken<E> eventType() {
+            return this.eventType;
+        }
+
+        /**
+         * Gets the {@link Listener#order()} of the listener method.
+         *
+         * @return The order
+         */
+        public Order order() {
+            return this.order;
+        }
+
+        /**
+         * Gets the {@link Listener#beforeModifications()} of the listener
+         * method.
+         *
+         * @return Whether the listener is called before modifications
+         */
+        public boolean beforeModifications() {
+            return this.beforeModifications;
+        }
+
+        /**
+         * Gets the listener checking the filters of the listener method and
+         * calling it.
+         *
+         * @return The listener
+         */
+        public EventListener<? super E> listener() {
+            return this.listener;
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+
+import java.util.function.Predicate;
+
+/**
+ * Casts many block rays at once against a {@link BlockVolume}, as obtained
+ * from {@link RayTrace#blockBatch()}.
+ *
+ * <p>Unlike a {@link RayTrace}, which resolves one location at a time for a
+ * single ray, a batch performs a voxel traversal (DDA) for every ray over
+ * cached chunk section views of the volume, without allocating per step,
+ * and writes primitive hit results into a {@link BlockRayBatchResult}. When
+ * the volume is an unmodifiable snapshot, such as a
+ * {@link BlockVolume.Immutable}, a batch may be executed from any thread.</p>
+ *
+ * <p>Rays are given as flat arrays of coordinates, the ray {@code i} starting
+ * at {@code (origins[i * 3], origins[i * 3 + 1], origins[i * 3 + 2])} and
+ * following the direction at the same indices of the directions array.
+ * Directions need not be normalized.</p>
+ */
+public interface BlockRayBatch {
+
+    /**
+     * Sets the volume to cast the rays in.
+     *
+     * @param volume The volume
+     * @return This, for chaining
+     */
+    BlockRayBatch volume(BlockVolume volume);
+
+    /**
+     * Sets the maximum distance a ray travels before it is considered a miss.
+     *
+     * @param distance The maximum distance
+     * @return This, for chaining
+     * @throws IllegalArgumentException If the distance is not positive
+     */
+    BlockRayBatch limit(double distance);
+
+    /**
+     * Sets the filter determining the {@link BlockState}s a ray stops at.
+     * By default, a ray stops at the first block that is not air, see
+     * {@link RayTrace#nonAir()}.
+     *
+     * @param filter The filter, true for block states that stop a ray
+     * @return This, for chaining
+     */
+    BlockRayBatch select(Predicate<? super BlockState> filter);
+
+    /**
+     * Casts the given rays and returns their results.
+     *
+     * @param origins The origins of the rays, as {@code x, y, z} triplets
+     * @param directions The directions of the rays, as {@code x, y, z}
+     *      triplets
+     * @param count The number of rays to cast
+     * @return The results, indexed by ray
+     * @throws IllegalArgumentException If either array holds less than
+     *      {@code count} triplets
+     * @throws IllegalStateException If no volume was set
+     */
+    default BlockRayBatchResult execute(final double[] origins, final double[] directions, final int count) {
+        final BlockRayBatchResult result = new BlockRayBatchResult(count);
+        this.execute(origins, directions, count, result);
+        return result;
+    }
+
+    /**
+     * Casts the given rays and writes their results into the given result,
+     * such that a result can be reused across batches without allocating.
+     *
+     * @param origins The origins of the rays, as {@code x, y, z} triplets
+     * @param directions The directions of the rays, as {@code x, y, z}
+     *      triplets
+     * @param count The number of rays to cast
+     * @param result The result to write to, resized to {@code count}
+     * @throws IllegalArgumentException If either array holds less than
+     *      {@code count} triplets
+     * @throws IllegalStateException If no volume was set
+     */
+    void execute(double[] origins, double[] directions, int count, BlockRayBatchResult result);
+
+    /**
+     * Resets this batch to its default settings.
+     *
+     * @return This, for chaining
+     */
+    BlockRayBatch reset();
+
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import org.spongepowered.api.util.Direction;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The results of a {@link BlockRayBatch}, stored in primitive arrays indexed
+ * by ray. For every ray that hit a block, the position of the block, the
+ * face of the block the ray entered through and the distance travelled are
+ * recorded.
+ *
+ * <p>Plugins create results to reuse them across calls to
+ * {@link BlockRayBatch#execute(double[], double[], int, BlockRayBatchResult)}
+ * and only read them. {@link #reset(int)} and
+ * {@link #hit(int, int, int, int, Direction, double)} are meant for
+ * implementations of {@link BlockRayBatch} writing the results of a
+ * batch.</p>
+ */
+public final class BlockRayBatchResult {
+
+    private int size;
+    private boolean[] hits;
+    private int[] blockX;
+    private int[] blockY;
+    private int[] blockZ;
+    private Direction[] faces;
+    private double[] distances;
+
+    /**
+     * Creates a new result able to hold the given number of rays without
+     * growing. The result holds no rays, its {@link #size()} being zero,
+     * until it is {@link #reset(int) reset} by a batch.
+     *
+     * @param capacity The initial capacity
+     */
+    public BlockRayBatchResult(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.hits = new boolean[capacity];
+        this.blockX = new int[capacity];
+        this.blockY = new int[capacity];
+        this.blockZ = new int[capacity];
+        this.faces = new Direction[capacity];
+        this.distances = new double[capacity];
+        Arrays.fill(this.faces, Direction.NONE);
+    }
+
+    /**
+     * Gets the number of rays held by this result.
+     *
+     * @return The number of rays
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears this result and resizes it to hold the given number of rays, all
+     * of them initially misses. The backing arrays only grow if needed.
+     *
+     * <p>This is called by {@link BlockRayBatch} implementations before
+     * writing the results of a batch.</p>
+     *
+     * @param size The number of rays
+     */
+    public void reset(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (size > this.blockX.length) {
+            this.hits = new boolean[size];
+            this.blockX = new int[size];
+            this.blockY = new int[size];
+            this.blockZ = new int[size];
+            this.faces = new Direction[size];
+            this.distances = new double[size];
+        }
+        Arrays.fill(this.hits, 0, size, false);
+        Arrays.fill(this.faces, 0, size, Direction.NONE);
+        Arrays.fill(this.distances, 0, size, 0.0D);
+        this.size = size;
+    }
+
+    /**
+     * Records a hit for the given ray. This is called by
+     * {@link BlockRayBatch} implementations while executing a batch.
+     *
+     * @param ray The index of the ray
+     * @param x The x position of the block hit
+     * @param y The y position of the block hit
+     * @param z The z position of the block hit
+     * @param face The face of the block the ray entered through
+     * @param distance The distance travelled by the ray
+     * @throws IndexOutOfBoundsException If the ray is not within the
+     *      {@link #size()} of this result
+     */
+    public void hit(final int ray, final int x, final int y, final int z, final Direction face, final double distance) {
+        Objects.requireNonNull(face, "face");
+        this.checkIndex(ray);
+        this.hits[ray] = true;
+        this.blockX[ray] = x;
+        this.blockY[ray] = y;
+        this.blockZ[ray] = z;
+        this.faces[ray] = face;
+        this.distances[ray] = distance;
+    }
+
+    /**
+     * Gets whether the given ray hit a block.
+     *
+     * @param ray The index of the ray
+     * @return True if the ray hit a block
+     */
+    public boolean isHit(final int ray) {
+        this.checkIndex(ray);
+        return this.hits[ray];
+    }
+
+    /**
+     * Gets the x position of the block hit by the given ray.
+     *
+     * @param ray The index of the ray
+     * @return The x position, undefined if the ray missed
+     */
+    public int blockX(final int ray) {
+        this.checkIndex(ray);
+        return this.blockX[ray];
+    }
+
+    /**
+     * Gets the y position of the block hit by the given ray.
+     *
+     * @param ray The index of the ray
+     * @return The y position, undefined if the ray missed
+     */
+    public int blockY(final int ray) {
+        this.checkIndex(ray);
+        return this.blockY[ray];
+    }
+
+    /**
+     * Gets the z position of the block hit by the given ray.
+     *
+     * @param ray The index of the ray
+     * @return The z position, undefined if the ray missed
+     */
+    public int blockZ(final int ray) {
+        this.checkIndex(ray);
+        return this.blockZ[ray];
+    }
+
+    /**
+     * Gets the face of the block the given ray entered through.
+     *
+     * @param ray The index of the ray
+     * @return The face, or {@link Direction#NONE} if the ray missed or
+     *      started inside the block
+     */
+    public Direction face(final int ray) {
+        this.checkIndex(ray);
+        return this.faces[ray];
+    }
+
+    /**
+     * Gets the distance travelled by the given ray until it hit a block.
+     *
+     * @param ray The index of the ray
+     * @return The distance, undefined if the ray missed
+     */
+    public double distance(final int ray) {
+        this.checkIndex(ray);
+        return this.distances[ray];
+    }
+
+    private void checkIndex(final int ray) {
+        if (ray < 0 || ray >= this.size) {
+            throw new IndexOutOfBoundsException("Ray " + ray + " is out of bounds for " + this.size + " rays");
+        }
+    }
+
+}
@@ -70,6 +70,17 @@
  */
 public interface RayTrace<T extends Locatable> {
 
+    /**
+     * Creates a {@link BlockRayBatch} casting many block rays at once,
+     * returning primitive results rather than a {@link RayTraceResult}
+     * per ray.
+     *
+     * @return The batch
+     */
+    static BlockRayBatch blockBatch() {
+        return Sponge.game().factoryProvider().provide(Factory.class).blockRayBatch();
+    }
+
     /**
      * Creates a {@link RayTrace} that will attempt to select a
      * {@link LocatableBlock}.
@@ -322,6 +333,11 @@ interface Factory {
          */
         RayTrace<LocatableBlock> blockRayTrace();
 
+        /**
+         * @see RayTrace#blockBatch()
+         */
+        BlockRayBatch blockRayBatch();
+
         /**
          * @see RayTrace#onlyAir()
          */
@@ -0,0 +1,196 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * A {@link Schematic} persisted in the indexed schematic format, read on
+ * demand rather than loaded as a whole.
+ *
+ * <p>Unlike a schematic serialized as a single {@link DataView} through
+ * {@link DataFormats#NBT}, the indexed format starts with a header holding
+ * the metadata, dimensions and palettes of the schematic, followed by the
+ * 16x16x16 sections it contains, each stored separately with its block
+ * palette identifiers, block entities and entities. The sections are
+ * followed by a directory of their coordinates and locations within the
+ * file, and the file ends with a fixed-size trailer holding the location of
+ * the directory. Opening an indexed schematic therefore only reads the
+ * header, the trailer and the directory, and a section is decoded when a
+ * position within it is first queried, from a memory mapped file or a
+ * channel. Previewing or pasting part of a large schematic only costs the
+ * memory of the sections involved.</p>
+ *
+ * <p>Placing the directory at the end allows a schematic to be written in a
+ * single forward pass, as the location of every section is known once it
+ * has been written, without buffering encoded sections or seeking back.</p>
+ *
+ * <p>An indexed schematic holds the underlying file open until it is
+ * {@link #close() closed}.</p>
+ */
+public interface IndexedSchematic extends BlockVolume.Unmodifiable<IndexedSchematic>, AutoCloseable {
+
+    /**
+     * Opens the indexed schematic stored in the file at the given path. The
+     * file is memory mapped where supported.
+     *
+     * @param path The path of the file
+     * @return The indexed schematic
+     * @throws IOException If the file could not be read, or is not an
+     *         indexed schematic
+     */
+    static IndexedSchematic open(final Path path) throws IOException {
+        return Sponge.game().factoryProvider().provide(Factory.class).open(path);
+    }
+
+    /**
+     * Opens the indexed schematic readable from the given channel. Sections
+     * are read by seeking the channel to their location.
+     *
+     * @param channel The channel
+     * @return The indexed schematic
+     * @throws IOException If the channel could not be read, or does not hold
+     *         an indexed schematic
+     */
+    static IndexedSchematic open(final SeekableByteChannel channel) throws IOException {
+        return Sponge.game().factoryProvider().provide(Factory.class).open(channel);
+    }
+
+    /**
+     * Writes the given schematic to the file at the given path in the indexed
+     * schematic format, replacing the file if it exists.
+     *
+     * @param schematic The schematic to write
+     * @param path The path of the file
+     * @throws IOException If the file could not be written
+     */
+    static void write(final Schematic schematic, final Path path) throws IOException {
+        Sponge.game().factoryProvider().provide(Factory.class).write(schematic, path);
+    }
+
+    /**
+     * Writes the given schematic to the given channel in the indexed
+     * schematic format. The header is written first, followed by each
+     * section as soon as it is encoded, then the directory and the trailer
+     * pointing to it. Only one encoded section is held in memory at a time,
+     * and the channel is never required to seek, such that it may be backed
+     * by a stream.
+     *
+     * @param schematic The schematic to write
+     * @param channel The channel to write to
+     * @throws IOException If the channel could not be written to
+     */
+    static void write(final Schematic schematic, final WritableByteChannel channel) throws IOException {
+        Sponge.game().factoryProvider().provide(Factory.class).write(schematic, channel);
+    }
+
+    /**
+     * Gets the metadata of the schematic, see {@link Schematic#metadata()}.
+     *
+     * @return The metadata
+     */
+    DataView metadata();
+
+    /**
+     * Gets the {@link Palette} the block sections of the schematic are
+     * stored with.
+     *
+     * @return The block palette
+     */
+    Palette<BlockState, BlockType> blockPalette();
+
+    /**
+     * Gets the {@link Palette} the biomes of the schematic are stored with.
+     *
+     * @return The biome palette
+     */
+    Palette<Biome, Biome> biomePalette();
+
+    /**
+     * Gets the section coordinates of every section stored in the schematic,
+     * as listed by its directory. Sections that are absent only contain air.
+     *
+     * @return The stored sections
+     */
+    Collection<Vector3i> sections();
+
+    /**
+     * Reads the blocks, block entities, entities and biomes between
+     * {@code min} and {@code max} into a new {@link ArchetypeVolume}, only
+     * decoding the sections intersecting the range.
+     *
+     * @param min The minimum position to read
+     * @param max The maximum position to read
+     * @return The archetype volume holding the read range
+     * @throws IOException If a section could not be read
+     * @throws PositionOutOfBoundsException If the range is not contained
+     *         within the bounds of the schematic
+     */
+    ArchetypeVolume read(Vector3i min, Vector3i max) throws IOException;
+
+    /**
+     * Reads the whole schematic into memory.
+     *
+     * @return The schematic
+     * @throws IOException If a section could not be read
+     */
+    Schematic readAll() throws IOException;
+
+    /**
+     * Releases the underlying file or channel. Queries performed after the
+     * schematic has been closed fail with an {@link IllegalStateException}.
+     *
+     * @throws IOException If the underlying file could not be closed
+     */
+    @Override
+    void close() throws IOException;
+
+    interface Factory {
+
+        IndexedSchematic open(Path path) throws IOException;
+
+        IndexedSchematic open(SeekableByteChannel channel) throws IOException;
+
+        void write(Schematic schematic, Path path) throws IOException;
+
+        void write(Schematic schematic, WritableByteChannel channel) throws IOException;
+    }
+
+}
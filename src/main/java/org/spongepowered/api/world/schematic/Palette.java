@@ -26,10 +26,12 @@
 
 import org.spongepowered.api.registry.RegistryHolder;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 /**
@@ -89,6 +91,59 @@ default Optional<T> get(final int id, final RegistryHolder holder) {
 
     Stream<Map.Entry<T, Integer>> streamWithIds();
 
+    /**
+     * Performs the given action for every {@code type T} contained in this
+     * palette along with its identifier, without boxing the identifiers as
+     * {@link #streamWithIds()} does.
+     *
+     * @param action The action to perform
+     */
+    default void forEachWithId(final ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+        this.streamWithIds().forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Converts identifiers of this palette to the identifiers of the same
+     * {@code type T}s in the target palette, in a single pass over the array.
+     * Every distinct identifier is only resolved once, and types missing from
+     * the target palette are {@link Mutable#orAssign(Object) assigned}.
+     *
+     * <p>Remapping into a palette of {@link PaletteTypes#GLOBAL_BLOCK_STATE_PALETTE}
+     * or {@link PaletteTypes#GLOBAL_BIOME_PALETTE} converts the identifiers to
+     * global identifiers, and remapping from such a palette converts them
+     * back.</p>
+     *
+     * @param ids The identifiers of this palette
+     * @param target The palette to convert the identifiers to
+     * @param holder The registry holder to resolve the types with
+     * @return The identifiers of the target palette, in the same order
+     * @throws IllegalArgumentException If an identifier is not mapped by
+     *         this palette
+     */
+    default int[] remap(final int[] ids, final Mutable<T, R> target, final RegistryHolder holder) {
+        Objects.requireNonNull(ids, "ids");
+        Objects.requireNonNull(target, "target");
+        Objects.requireNonNull(holder, "holder");
+        final int[] table = new int[this.highestId() + 1];
+        Arrays.fill(table, -1);
+        final int[] remapped = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            final int id = ids[i];
+            if (id < 0 || id >= table.length) {
+                throw new IllegalArgumentException("Palette id " + id + " is out of range");
+            }
+            int targetId = table[id];
+            if (targetId == -1) {
+                final T type = this.get(id, holder).orElseThrow(() -> new IllegalArgumentException("Palette id " + id + " is not mapped"));
+                targetId = target.orAssign(type);
+                table[id] = targetId;
+            }
+            remapped[i] = targetId;
+        }
+        return remapped;
+    }
+
     Mutable<T, R> asMutable(RegistryHolder registry);
 
     Immutable<T, R> asImmutable();
@@ -54,10 +54,33 @@ public final class PaletteTypes {
      * A type of {@link PaletteType} that refers to a localized mapping of
      * {@link BlockState block states} for individualized usage. Traditionally the
      * palette will generate {@code integer ids} in the order in which a
-     * {@link BlockState biome} is registered via {@link Palette.Mutable#orAssign (Object)}
+     * {@link BlockState biome} is registered via {@link Palette.Mutable#orAssign (Object)}.
+     * Lookups by block state are keyed on its global identifier through a
+     * primitive array, such that {@link Palette#get(Object)} does not hash
+     * the block state itself.
      */
     public static final DefaultedRegistryReference<PaletteType<BlockState, BlockType>> BLOCK_STATE_PALETTE = PaletteTypes.key(ResourceKey.sponge("block_state_palette"));
 
+    /**
+     * A type of {@link PaletteType} whose identifiers are the global
+     * identifiers the game assigns to every {@link Biome biome}. Such a
+     * palette is shared, never grows through {@link Palette.Mutable#orAssign(Object)}
+     * and does not support {@link Palette.Mutable#remove(Object) removal}.
+     * {@link Palette#remap(int[], Palette.Mutable, org.spongepowered.api.registry.RegistryHolder) Remapping}
+     * local identifiers into this palette converts them to global identifiers.
+     */
+    public static final DefaultedRegistryReference<PaletteType<Biome, Biome>> GLOBAL_BIOME_PALETTE = PaletteTypes.key(ResourceKey.sponge("global_biome_palette"));
+
+    /**
+     * A type of {@link PaletteType} whose identifiers are the global
+     * identifiers the game assigns to every {@link BlockState block state}.
+     * Such a palette is shared, never grows through {@link Palette.Mutable#orAssign(Object)}
+     * and does not support {@link Palette.Mutable#remove(Object) removal}.
+     * {@link Palette#remap(int[], Palette.Mutable, org.spongepowered.api.registry.RegistryHolder) Remapping}
+     * local identifiers into this palette converts them to global identifiers.
+     */
+    public static final DefaultedRegistryReference<PaletteType<BlockState, BlockType>> GLOBAL_BLOCK_STATE_PALETTE = PaletteTypes.key(ResourceKey.sponge("global_block_state_palette"));
+
     // SORTFIELDS:OFF
 
     // @formatter:on
@@ -36,11 +36,13 @@
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeVolume;
 import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.block.BlockVolumeDelta;
 import org.spongepowered.api.world.volume.block.entity.BlockEntityVolume;
 import org.spongepowered.api.world.volume.game.LocationBaseDataHolder;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A special archetype volume designed to be persisted. Contains additional
@@ -83,6 +85,17 @@ static Builder builder() {
      */
     DataView metadata();
 
+    /**
+     * Gets the {@link BlockVolumeDelta}s stored alongside the blocks of this
+     * schematic, in the order they were recorded. Each delta is expected to
+     * apply on top of the blocks resulting from the deltas before it, such
+     * that a history of changes is persisted with a cost proportional to
+     * what changed.
+     *
+     * @return The block deltas
+     */
+    List<BlockVolumeDelta> blockDeltas();
+
     /**
      * A builder for {@link Schematic}s.
      */
@@ -111,6 +124,15 @@ interface Builder extends org.spongepowered.api.util.Builder<Schematic, Builder>
 
         Builder volume(ArchetypeVolume volume);
 
+        /**
+         * Appends a {@link BlockVolumeDelta} to be stored with the schematic,
+         * see {@link Schematic#blockDeltas()}.
+         *
+         * @param delta The block delta
+         * @return This builder, for chaining
+         */
+        Builder blockDelta(BlockVolumeDelta delta);
+
         /**
          * Specifies a palette for the schematic to use for serialization. This
          * overrides the {@link #blockPaletteType(PaletteType)} value.
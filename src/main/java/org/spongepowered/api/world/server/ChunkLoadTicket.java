@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.server;
+
+import org.spongepowered.api.world.chunk.Chunk;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Collection;
+
+/**
+ * Holds a set of {@link Chunk}s of a {@link ServerWorld} loaded, as obtained
+ * from {@link ServerWorld#loadChunksAsync(Collection, boolean)}, until it is
+ * {@link #release() released}.
+ *
+ * <p>While the ticket is held, the chunks are not unloaded by the server,
+ * such that work spanning the whole area can be performed without any chunk
+ * being loaded on demand. Tickets should be released as soon as the work is
+ * done, as the held chunks count towards the memory used by the server.</p>
+ */
+public interface ChunkLoadTicket extends AutoCloseable {
+
+    /**
+     * Gets the world the chunks of this ticket belong to.
+     *
+     * @return The world
+     */
+    ServerWorld world();
+
+    /**
+     * Gets the positions of the chunks held loaded by this ticket.
+     *
+     * @return The chunk positions
+     */
+    Collection<Vector3i> chunkPositions();
+
+    /**
+     * Gets the chunks held loaded by this ticket. Chunks that were not
+     * generated, and were not requested to be, are absent.
+     *
+     * @return The loaded chunks
+     */
+    Collection<Chunk> chunks();
+
+    /**
+     * Gets whether this ticket has been released.
+     *
+     * @return True if released
+     */
+    boolean isReleased();
+
+    /**
+     * Releases this ticket, allowing the server to unload the chunks it held
+     * when no longer needed. Releasing an already released ticket does
+     * nothing.
+     */
+    void release();
+
+    /**
+     * Releases this ticket, see {@link #release()}.
+     */
+    @Override
+    default void close() {
+        this.release();
+    }
+
+}
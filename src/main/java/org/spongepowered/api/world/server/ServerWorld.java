@@ -31,6 +31,7 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.raid.Raid;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Identifiable;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.ChunkRegenerateFlag;
@@ -43,6 +44,7 @@
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.generation.ChunkGenerator;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.api.world.storage.ChunkLayout;
 import org.spongepowered.api.world.storage.WorldStorage;
 import org.spongepowered.api.world.volume.game.InteractableVolume;
 import org.spongepowered.api.world.weather.WeatherUniverse;
@@ -51,9 +53,12 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface ServerWorld extends World<ServerWorld, ServerLocation>, Identifiable, InteractableVolume,
         ServerLocationCreator, WeatherUniverse.Mutable {
@@ -135,6 +140,51 @@ default Optional<Chunk> regenerateChunk(final Vector3i chunkPosition, final Chun
      */
     Optional<Chunk> regenerateChunk(int cx, int cy, int cz, ChunkRegenerateFlag flag);
 
+    /**
+     * Loads the chunks at the given chunk positions off the main thread,
+     * holding them loaded with a {@link ChunkLoadTicket} once they are.
+     *
+     * <p>Unlike {@link #loadChunk(Vector3i, boolean)}, the chunks are read
+     * in bulk, ordered by their location within the region files of the
+     * world, and the returned future completes once all of them are loaded.
+     * This allows an operation to prefetch its whole footprint before
+     * touching it. If the future is cancelled or completes exceptionally,
+     * any chunk loaded so far is released.</p>
+     *
+     * @param chunkPositions The positions of the chunks to load
+     * @param shouldGenerate True to generate chunks that do not exist yet
+     * @return A future completing with the ticket holding the chunks loaded
+     */
+    CompletableFuture<ChunkLoadTicket> loadChunksAsync(Collection<Vector3i> chunkPositions, boolean shouldGenerate);
+
+    /**
+     * Loads all the chunks intersecting the given block area off the main
+     * thread, see {@link #loadChunksAsync(Collection, boolean)}.
+     *
+     * @param area The block area
+     * @param shouldGenerate True to generate chunks that do not exist yet
+     * @return A future completing with the ticket holding the chunks loaded
+     */
+    default CompletableFuture<ChunkLoadTicket> loadChunksAsync(final AABB area, final boolean shouldGenerate) {
+        Objects.requireNonNull(area, "area");
+        final ChunkLayout layout = this.engine().chunkLayout();
+        final Vector3i min = area.min().floor().toInt();
+        // The maximum of the box is exclusive, a box ending exactly on a
+        // chunk boundary does not reach into the next chunk
+        final Vector3i max = area.max().ceil().toInt().sub(Vector3i.ONE).max(min);
+        final Vector3i minChunk = layout.forceToChunk(min);
+        final Vector3i maxChunk = layout.forceToChunk(max);
+        final Set<Vector3i> chunkPositions = new LinkedHashSet<>();
+        for (int cx = minChunk.getX(); cx <= maxChunk.getX(); cx++) {
+            for (int cy = minChunk.getY(); cy <= maxChunk.getY(); cy++) {
+                for (int cz = minChunk.getZ(); cz <= maxChunk.getZ(); cz++) {
+                    chunkPositions.add(new Vector3i(cx, cy, cz));
+                }
+            }
+        }
+        return this.loadChunksAsync(chunkPositions, shouldGenerate);
+    }
+
     /**
      * Gets a snapshot of this block at the current point in time.
      *
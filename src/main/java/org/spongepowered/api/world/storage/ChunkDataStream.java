@@ -26,6 +26,7 @@
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.EncodedDataContainer;
 import org.spongepowered.api.world.chunk.Chunk;
 
 /**
@@ -59,6 +60,22 @@ public interface ChunkDataStream {
     @Nullable
     DataContainer next();
 
+    /**
+     * Gets the next {@link Chunk} represented by an
+     * {@link EncodedDataContainer}, which only decodes the parts of the data
+     * that are queried.
+     *
+     * <p>This method BLOCKS the thread until the next available data has been
+     * read, and advances this stream the same way {@link #next()} does.</p>
+     *
+     * <p>This may not return a {@link EncodedDataContainer} in the event there
+     * is no chunk data available to read.</p>
+     *
+     * @return The chunk data represented by an encoded data container
+     */
+    @Nullable
+    EncodedDataContainer nextEncoded();
+
     /**
      * Checks if there is an available chunk to represent.
      *
@@ -0,0 +1,83 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import org.spongepowered.api.world.volume.UnmodifiableVolume;
+import org.spongepowered.api.world.volume.biome.BiomeVolume;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * A read only view of the blocks and biomes of an area of a world, as
+ * they are persisted by its {@link WorldStorage}.
+ *
+ * <p>Chunk sections are decoded from storage on demand, when a position
+ * within them is first queried or streamed over, and only a bounded number
+ * of decoded sections is kept at any time. Chunks are never loaded into, nor
+ * generated by, the world, such that scanning large areas does not affect
+ * the loaded chunks of the server. The {@link StreamOptions.LoadingStyle}
+ * of {@link StreamOptions} passed to the streams of this volume is
+ * therefore ignored.</p>
+ *
+ * <p>As the view reflects what has been saved, changes to chunks that are
+ * currently loaded and have not been saved yet are not visible. Positions
+ * within chunks that have never been generated report the default block and
+ * biome of the world, see {@link #isAreaAvailable(int, int, int)}.</p>
+ *
+ * <p>Reading from this volume may block on disk access, and should be
+ * limited to asynchronous tasks to avoid hanging the main thread.</p>
+ */
+public interface OfflineVolume extends BlockVolume.Unmodifiable<OfflineVolume>, BiomeVolume.Unmodifiable<OfflineVolume>, UnmodifiableVolume {
+
+    /**
+     * Gets the {@link WorldStorage} this volume reads from.
+     *
+     * @return The world storage
+     */
+    WorldStorage storage();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For this volume, an area is available if the chunk containing
+     * the position has been generated and saved to storage.</p>
+     *
+     * @param x The X coordinate to check
+     * @param y The Y coordinate to check
+     * @param z The Z coordinate to check
+     * @return Whether the chunk containing the position is stored
+     */
+    @Override
+    boolean isAreaAvailable(int x, int y, int z);
+
+    /**
+     * Discards all decoded sections held by this view. Subsequent queries
+     * decode the sections from storage again, picking up any chunk that has
+     * been saved in the meantime.
+     */
+    void invalidate();
+
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.api.world.storage;
 
 import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.EncodedDataContainer;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.chunk.Chunk;
 import org.spongepowered.math.vector.Vector3i;
@@ -88,6 +89,39 @@ public interface WorldStorage {
      */
     CompletableFuture<Optional<DataContainer>> chunkData(Vector3i chunkCoords);
 
+    /**
+     * Gets an {@link EncodedDataContainer} over the stored data of a
+     * {@link Chunk}, which unlike {@link #chunkData(Vector3i)} only decodes
+     * the parts of the data that are queried.
+     *
+     * <p>Only the stored bytes of the chunk are read from storage, such that
+     * reading a single value does not decode the data of the whole chunk.
+     * The same restrictions as for {@link #chunkData(Vector3i)} apply, changes
+     * made to the container are NOT saved.</p>
+     *
+     * <p>It is imperative to understand that the {@link CompletableFuture} task
+     * is blocking, and should avoid using {@link CompletableFuture#get()} while
+     * on the main thread.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The encoded data container of the chunk data, if available
+     */
+    CompletableFuture<Optional<EncodedDataContainer>> encodedChunkData(Vector3i chunkCoords);
+
+    /**
+     * Gets a read only {@link OfflineVolume} of the blocks and biomes between
+     * the given block positions, decoded from storage on demand.
+     *
+     * <p>Unlike loading the area into the {@link World}, the chunks within
+     * the volume are never added to the loaded chunks of the server, nor are
+     * they generated if absent.</p>
+     *
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @return The offline volume
+     */
+    OfflineVolume offlineVolume(Vector3i min, Vector3i max);
+
     /**
      * Gets the {@link WorldProperties} of this storage. In the vanilla storage
      * medium this represents the data available in the level.dat file.
@@ -0,0 +1,228 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ArchetypeVolume} being applied to a {@link ServerWorld} over
+ * multiple ticks, spending at most a fixed amount of time of each tick.
+ *
+ * <p>Rather than applying the whole volume in one synchronous step, a paste
+ * proceeds in {@link Stage stages}: the blocks are applied section by
+ * section first, followed by the block entities and finally the entities.
+ * Lighting and client updates are performed once per finished section. Work
+ * stops for the tick as soon as the {@link #tickBudget() tick budget} is
+ * spent, and resumes on the next tick.</p>
+ */
+public interface ArchetypePaste {
+
+    static Builder builder() {
+        return Sponge.game().builderProvider().provide(Builder.class);
+    }
+
+    /**
+     * Gets the volume being pasted.
+     *
+     * @return The volume
+     */
+    ArchetypeVolume volume();
+
+    /**
+     * Gets the world the volume is pasted into.
+     *
+     * @return The world
+     */
+    ServerWorld world();
+
+    /**
+     * Gets the position of the world the origin of the volume is pasted at.
+     *
+     * @return The origin
+     */
+    Vector3i origin();
+
+    /**
+     * Gets the maximum time spent pasting per tick.
+     *
+     * @return The tick budget
+     */
+    Duration tickBudget();
+
+    /**
+     * Gets the stage this paste is currently in.
+     *
+     * @return The current stage
+     */
+    Stage stage();
+
+    /**
+     * Gets the number of block sections that have been fully applied.
+     *
+     * @return The number of completed sections
+     */
+    int completedSections();
+
+    /**
+     * Gets the number of block sections of the volume to apply.
+     *
+     * @return The total number of sections
+     */
+    int totalSections();
+
+    /**
+     * Gets the fraction of the block sections that have been applied, between
+     * {@code 0} and {@code 1}.
+     *
+     * @return The progress
+     */
+    default double progress() {
+        final int total = this.totalSections();
+        return total == 0 ? 1.0D : (double) this.completedSections() / total;
+    }
+
+    /**
+     * Gets a future completing with this paste once all the stages have been
+     * applied, or completing exceptionally with a {@link CancellationException}
+     * if the paste was {@link #cancel() cancelled}.
+     *
+     * @return The future
+     */
+    CompletableFuture<ArchetypePaste> completion();
+
+    /**
+     * Cancels this paste. The sections applied so far remain in the world,
+     * the section being applied is completed first such that the world is not
+     * left with a partially applied section.
+     *
+     * @return True if the paste was cancelled, false if it was already
+     *         completed or cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Gets whether this paste was cancelled.
+     *
+     * @return True if cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * The stages of an {@link ArchetypePaste}, in the order they are
+     * performed.
+     */
+    enum Stage {
+        /**
+         * The blocks are being applied, section by section.
+         */
+        BLOCKS,
+        /**
+         * The block entities are being applied.
+         */
+        BLOCK_ENTITIES,
+        /**
+         * The entities are being spawned.
+         */
+        ENTITIES,
+        /**
+         * The paste has completed, or was cancelled.
+         */
+        DONE
+    }
+
+    interface Builder extends org.spongepowered.api.util.Builder<ArchetypePaste, Builder> {
+
+        /**
+         * Sets the volume to paste.
+         *
+         * @param volume The volume
+         * @return This builder, for chaining
+         */
+        Builder volume(ArchetypeVolume volume);
+
+        /**
+         * Sets the world to paste into.
+         *
+         * @param world The world
+         * @return This builder, for chaining
+         */
+        Builder world(ServerWorld world);
+
+        /**
+         * Sets the position of the world the origin of the volume is pasted
+         * at.
+         *
+         * @param origin The origin
+         * @return This builder, for chaining
+         */
+        Builder origin(Vector3i origin);
+
+        /**
+         * Sets the maximum time spent pasting per tick, for example five
+         * milliseconds.
+         *
+         * @param budget The tick budget
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the budget is not positive
+         */
+        Builder tickBudget(Duration budget);
+
+        /**
+         * Sets the {@link BlockChangeFlag} the blocks are applied with,
+         * defaults to {@link BlockChangeFlags#ALL}.
+         *
+         * @param flag The block change flag
+         * @return This builder, for chaining
+         */
+        Builder flag(BlockChangeFlag flag);
+
+        /**
+         * Sets the plugin the paste is scheduled on behalf of.
+         *
+         * @param plugin The plugin
+         * @return This builder, for chaining
+         */
+        Builder plugin(PluginContainer plugin);
+
+        /**
+         * Builds the paste and schedules it to start on the next tick.
+         *
+         * @return The scheduled paste
+         * @throws IllegalStateException If the volume, world, origin, tick
+         *         budget or plugin were not set
+         */
+        ArchetypePaste build();
+    }
+
+}
@@ -24,13 +24,115 @@
  */
 package org.spongepowered.api.world.volume.archetype;
 
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.util.mirror.Mirror;
+import org.spongepowered.api.util.rotation.Rotation;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.block.entity.BlockEntityArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeVolume;
 import org.spongepowered.api.world.volume.biome.BiomeVolume;
 import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.block.BlockVolumeDelta;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 public interface ArchetypeVolume extends BlockVolume.Mutable<ArchetypeVolume>,
     BlockEntityArchetypeVolume.Mutable<ArchetypeVolume>,
     EntityArchetypeVolume.Mutable<ArchetypeVolume>,
     BiomeVolume.Mutable<ArchetypeVolume> {
+
+    /**
+     * Creates a view of this volume mirrored and then rotated around the
+     * given pivot, without copying it.
+     *
+     * <p>Positions of blocks, block entities, entities and biomes are
+     * remapped and block states are mirrored and rotated as they are read,
+     * such that streaming over or pasting the view never materializes the
+     * transformed volume. Writes to the view are applied to this volume
+     * through the inverse transformation. Views of views compose their
+     * transformations rather than stacking lookups.</p>
+     *
+     * @param pivot The position the volume is mirrored and rotated around
+     * @param rotation The rotation around the y axis
+     * @param mirror The mirror
+     * @return The transformed view
+     */
+    ArchetypeVolume transformed(Vector3i pivot, Rotation rotation, Mirror mirror);
+
+    /**
+     * Gets the {@link BlockVolumeDelta}s recorded on this volume, in the
+     * order they were recorded. Each delta is expected to apply on top of
+     * the blocks resulting from the deltas before it, such that undo and
+     * redo of edits to this volume only keep what changed rather than
+     * copies of the whole volume. The deltas are stored with a
+     * {@link org.spongepowered.api.world.schematic.Schematic} built from this
+     * volume, see {@link org.spongepowered.api.world.schematic.Schematic#blockDeltas()}.
+     *
+     * @return The recorded block deltas, unmodifiable
+     */
+    List<BlockVolumeDelta> blockDeltas();
+
+    /**
+     * Appends the given {@link BlockVolumeDelta} to the
+     * {@link #blockDeltas() recorded deltas} of this volume, without
+     * applying it. This is meant for deltas of changes that were already
+     * made to this volume.
+     *
+     * @param delta The block delta
+     * @throws PositionOutOfBoundsException If this volume does not contain
+     *         the region of the delta
+     */
+    void recordBlockDelta(BlockVolumeDelta delta);
+
+    /**
+     * Applies the given {@link BlockVolumeDelta} to this volume and
+     * {@link #recordBlockDelta(BlockVolumeDelta) records} it.
+     *
+     * @param delta The block delta
+     * @return The number of blocks changed
+     * @throws PositionOutOfBoundsException If this volume does not contain
+     *         the region of the delta
+     */
+    default int applyBlockDelta(final BlockVolumeDelta delta) {
+        Objects.requireNonNull(delta, "delta");
+        final int changed = delta.apply(this);
+        this.recordBlockDelta(delta);
+        return changed;
+    }
+
+    /**
+     * Reverts the most recently recorded {@link BlockVolumeDelta} on this
+     * volume and removes it from the {@link #blockDeltas() recorded deltas}.
+     * The returned delta can be passed to
+     * {@link #applyBlockDelta(BlockVolumeDelta)} to redo it.
+     *
+     * @return The reverted delta, if any delta was recorded
+     */
+    Optional<BlockVolumeDelta> undoBlockDelta();
+
+    /**
+     * Pastes this volume into the given world over multiple ticks, spending
+     * at most the given time per tick, see {@link ArchetypePaste}.
+     *
+     * @param world The world to paste into
+     * @param origin The position of the world to paste the origin of this
+     *     volume at
+     * @param tickBudget The maximum time spent pasting per tick
+     * @param plugin The plugin the paste is scheduled on behalf of
+     * @return The scheduled paste
+     */
+    default ArchetypePaste paste(final ServerWorld world, final Vector3i origin, final Duration tickBudget, final PluginContainer plugin) {
+        return ArchetypePaste.builder()
+            .volume(this)
+            .world(world)
+            .origin(origin)
+            .tickBudget(tickBudget)
+            .plugin(plugin)
+            .build();
+    }
 }
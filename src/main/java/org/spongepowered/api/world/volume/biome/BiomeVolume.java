@@ -24,8 +24,10 @@
  */
 package org.spongepowered.api.world.volume.biome;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.volume.ImmutableVolume;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.UnmodifiableVolume;
@@ -64,6 +66,68 @@ default Biome biome(final Vector3i position) {
      */
     Biome biome(int x, int y, int z);
 
+    /**
+     * Gets the biomes of all the positions between {@code min} and
+     * {@code max}, both inclusive, as identifiers of the given
+     * {@link Palette}, writing them to the output array starting at
+     * {@code offset}. Biomes missing from the palette are
+     * {@link Palette.Mutable#orAssign(Object) assigned} an identifier. The
+     * identifiers are ordered with the {@code x} coordinate varying fastest,
+     * followed by {@code z}, then {@code y}, such that the identifier of a
+     * position is found at {@code offset + x + z * width + y * width * length},
+     * relative to the minimum of the range.
+     *
+     * <p>Implementations backed by chunks read the biome storage of each
+     * chunk in a single pass. When performed on an unmodifiable snapshot of a
+     * volume, this may be called from any thread.</p>
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param palette The palette to map the biomes with
+     * @param output The array to write the identifiers to
+     * @param offset The index of the output array to start writing at
+     * @throws IllegalArgumentException If a coordinate of {@code min} is
+     *         greater than the same coordinate of {@code max}
+     * @throws PositionOutOfBoundsException If the range is not contained
+     *         within the bounds of the volume
+     * @throws IndexOutOfBoundsException If the output array cannot hold all
+     *         the identifiers from the given offset
+     */
+    default void biomes(final Vector3i min, final Vector3i max, final Palette.Mutable<Biome, Biome> palette, final int[] output, final int offset) {
+        Objects.requireNonNull(palette, "palette");
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        if (min.getX() > max.getX() || min.getY() > max.getY() || min.getZ() > max.getZ()) {
+            throw new IllegalArgumentException("Minimum coordinates must not be greater than the maximum coordinates");
+        }
+        if (!this.containsBlock(min)) {
+            throw new PositionOutOfBoundsException(min, this.blockMin(), this.blockMax());
+        }
+        if (!this.containsBlock(max)) {
+            throw new PositionOutOfBoundsException(max, this.blockMin(), this.blockMax());
+        }
+        final long length = ((long) max.getX() - min.getX() + 1) * ((long) max.getY() - min.getY() + 1) * ((long) max.getZ() - min.getZ() + 1);
+        if (offset < 0 || length > output.length - offset) {
+            throw new IndexOutOfBoundsException("Cannot write " + length + " biomes at offset " + offset + " of an array of length " + output.length);
+        }
+        int index = offset;
+        @Nullable Biome last = null;
+        int lastId = -1;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final Biome biome = this.biome(x, y, z);
+                    if (biome != last) {
+                        last = biome;
+                        lastId = palette.orAssign(biome);
+                    }
+                    output[index++] = lastId;
+                }
+            }
+        }
+    }
+
     interface Streamable<B extends Streamable<B>> extends BiomeVolume {
 
         /**
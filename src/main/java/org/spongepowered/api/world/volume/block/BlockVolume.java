@@ -33,6 +33,8 @@
 import org.spongepowered.api.registry.RegistryReference;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.util.mirror.Mirror;
+import org.spongepowered.api.util.rotation.Rotation;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -55,6 +57,28 @@ public interface BlockVolume extends Volume {
         return Sponge.game().factoryProvider().provide(BlockVolumeFactory.class).empty(palette, defaultState, min, max);
     }
 
+    /**
+     * Creates a view of the given volume mirrored and then rotated around the
+     * given pivot, without copying it.
+     *
+     * <p>Positions are remapped and block states are
+     * {@link BlockState#mirror(Mirror) mirrored} and {@link BlockState#rotate(Rotation) rotated}
+     * as they are read, such that streaming over the view, through
+     * {@link Streamable#blockStateStream(Vector3i, Vector3i, StreamOptions)},
+     * never materializes the transformed volume. Changes to the viewed volume
+     * are reflected by the view.</p>
+     *
+     * @param volume The volume to view
+     * @param pivot The position the volume is mirrored and rotated around
+     * @param rotation The rotation around the y axis
+     * @param mirror The mirror
+     * @return The transformed view
+     */
+    static BlockVolume.Unmodifiable<@NonNull ?> transformed(final BlockVolume.Streamable<@NonNull ?> volume, final Vector3i pivot, final Rotation rotation,
+            final Mirror mirror) {
+        return Sponge.game().factoryProvider().provide(BlockVolumeFactory.class).transformed(volume, pivot, rotation, mirror);
+    }
+
     BlockState block(int x, int y, int z);
 
     default BlockState block(final Vector3i vector3i) {
@@ -172,5 +196,56 @@ default boolean removeBlock(final Vector3i position) {
 
         boolean removeBlock(int x, int y, int z);
 
+        /**
+         * Sets every block within the region between {@code min} and
+         * {@code max}, both inclusive, to the given {@link BlockState}.
+         *
+         * <p>Volumes backed by chunk sections are expected to write each
+         * section in one pass, such that any side effects of the change are
+         * performed once per modified section rather than once per block.</p>
+         *
+         * @param min The minimum position of the region
+         * @param max The maximum position of the region
+         * @param block The block
+         * @return The number of blocks changed
+         * @throws IllegalArgumentException If a coordinate of {@code min} is
+         *         greater than the same coordinate of {@code max}
+         * @throws PositionOutOfBoundsException If the region is not contained
+         *         within the bounds of the volume
+         */
+        default int fill(final Vector3i min, final Vector3i max, final BlockState block) {
+            return BlockVolumeWrites.fill(this, min, max, block, this::setBlock);
+        }
+
+        /**
+         * Sets the blocks within the region between {@code min} and
+         * {@code max}, both inclusive, from an array of identifiers of the
+         * given {@link Palette}. The identifiers are ordered with the
+         * {@code x} coordinate varying fastest, followed by {@code z}, then
+         * {@code y}, such that the identifier of a position is found at
+         * {@code x + z * width + y * width * length}, relative to the minimum
+         * of the region.
+         *
+         * <p>Each identifier is resolved once, before any block is written,
+         * and volumes backed by chunk sections are expected to write each section in one pass,
+         * such that any side effects of the change are performed once per
+         * modified section rather than once per block.</p>
+         *
+         * @param min The minimum position of the region
+         * @param max The maximum position of the region
+         * @param palette The palette the identifiers belong to
+         * @param paletteIds The identifiers of the blocks to set
+         * @return The number of blocks changed
+         * @throws IllegalArgumentException If a coordinate of {@code min} is
+         *         greater than the same coordinate of {@code max}, if the
+         *         number of identifiers does not match the size of the
+         *         region, or if an identifier is not present in the palette
+         * @throws PositionOutOfBoundsException If the region is not contained
+         *         within the bounds of the volume
+         */
+        default int setBlocks(final Vector3i min, final Vector3i max, final Palette<BlockState, BlockType> palette, final int[] paletteIds) {
+            return BlockVolumeWrites.setBlocks(this, min, max, palette, paletteIds, this::setBlock);
+        }
+
     }
 }
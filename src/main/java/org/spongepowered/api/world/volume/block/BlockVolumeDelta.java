@@ -0,0 +1,159 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.block;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * The difference between the blocks of two {@link BlockVolume}s of the same
+ * shape, storing only the positions that changed together with the palette
+ * identifiers of the original and modified blocks.
+ *
+ * <p>When computing a delta, chunk sections are compared by hash first such
+ * that identical sections are skipped without comparing each block. A delta
+ * therefore costs memory in proportion to the number of changed blocks rather
+ * than to the size of the volumes, which makes it suitable for undo and redo
+ * history. A delta can be {@link #apply(BlockVolume.Mutable) applied} to turn
+ * the original blocks into the modified ones, or {@link #revert(BlockVolume.Mutable)
+ * reverted} to restore the original blocks.</p>
+ */
+public interface BlockVolumeDelta extends DataSerializable {
+
+    /**
+     * Computes the delta between the original and the modified volume, which
+     * must share the same {@link BlockVolume#blockMin() minimum} and
+     * {@link BlockVolume#blockMax() maximum}.
+     *
+     * @param original The original volume
+     * @param modified The modified volume
+     * @return The delta
+     * @throws IllegalArgumentException If the volumes are not of the same shape
+     */
+    static BlockVolumeDelta between(final BlockVolume.Streamable<@NonNull ?> original, final BlockVolume.Streamable<@NonNull ?> modified) {
+        return Sponge.game().factoryProvider().provide(BlockVolumeFactory.class).delta(original, modified);
+    }
+
+    /**
+     * Gets the minimum position of the volumes this delta was computed from.
+     *
+     * @return The minimum position
+     */
+    Vector3i blockMin();
+
+    /**
+     * Gets the maximum position of the volumes this delta was computed from.
+     *
+     * @return The maximum position
+     */
+    Vector3i blockMax();
+
+    /**
+     * Gets the number of positions whose block differs between the original
+     * and the modified volume.
+     *
+     * @return The number of changed blocks
+     */
+    int changedBlocks();
+
+    /**
+     * Gets whether the original and the modified volume were identical.
+     *
+     * @return True if no block changed
+     */
+    default boolean isEmpty() {
+        return this.changedBlocks() == 0;
+    }
+
+    /**
+     * Gets the {@link Palette} the identifiers of the original and modified
+     * blocks of this delta belong to.
+     *
+     * @return The palette
+     */
+    Palette<BlockState, BlockType> palette();
+
+    /**
+     * Visits every changed position of this delta, in ascending {@code y},
+     * {@code z}, {@code x} order, without allocating per position.
+     *
+     * @param visitor The visitor
+     */
+    void forEach(Visitor visitor);
+
+    /**
+     * Sets the modified block at every changed position of the target volume.
+     *
+     * @param target The volume to apply this delta to
+     * @return The number of blocks changed
+     * @throws PositionOutOfBoundsException If the target does not contain the
+     *         changed positions
+     */
+    int apply(BlockVolume.Mutable<@NonNull ?> target);
+
+    /**
+     * Sets the original block at every changed position of the target volume,
+     * undoing a previous {@link #apply(BlockVolume.Mutable)}.
+     *
+     * @param target The volume to revert this delta on
+     * @return The number of blocks changed
+     * @throws PositionOutOfBoundsException If the target does not contain the
+     *         changed positions
+     */
+    int revert(BlockVolume.Mutable<@NonNull ?> target);
+
+    /**
+     * Gets the delta going from the modified blocks back to the original
+     * blocks, sharing the storage of this delta.
+     *
+     * @return The reversed delta
+     */
+    BlockVolumeDelta reverse();
+
+    /**
+     * Visits the changed positions of a {@link BlockVolumeDelta}.
+     */
+    @FunctionalInterface
+    interface Visitor {
+
+        /**
+         * Visits a changed position.
+         *
+         * @param x The X position
+         * @param y The Y position
+         * @param z The Z position
+         * @param originalId The palette identifier of the original block
+         * @param modifiedId The palette identifier of the modified block
+         */
+        void visit(int x, int y, int z, int originalId, int modifiedId);
+    }
+
+}
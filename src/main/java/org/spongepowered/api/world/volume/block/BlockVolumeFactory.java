@@ -28,19 +28,85 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.registry.RegistryReference;
+import org.spongepowered.api.util.mirror.Mirror;
+import org.spongepowered.api.util.rotation.Rotation;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.math.vector.Vector3i;
 
+/**
+ * A factory for detached {@link BlockVolume}s, such as the ones created by
+ * {@link BlockVolume#empty(Vector3i, Vector3i)}.
+ *
+ * <p>Volumes created by this factory store their blocks as identifiers of a
+ * {@link Palette}, bit-packed into a {@code long[]} per 16x16x16 section in
+ * the same manner as the paletted containers of the game. Each section uses
+ * as few bits per entry as required by the highest identifier present in it:
+ * the storage is widened when {@link Palette.Mutable#orAssign(Object)}
+ * assigns an identifier that no longer fits, and compacted again when
+ * entries stop being used or are {@link Palette.Mutable#remove(Object) removed}.
+ * Sections containing a single block are stored without any per block data.
+ * Such a volume therefore costs memory proportional to the number of
+ * distinct blocks in each section rather than one reference per block.</p>
+ */
 public interface BlockVolumeFactory {
 
+    /**
+     * Creates a new empty {@link BlockVolume.Mutable} filled with the given
+     * default block, storing its blocks as bit-packed identifiers of the
+     * given {@link Palette}.
+     *
+     * @param palette The palette mapping blocks to their stored identifiers
+     * @param defaultState The block every position initially holds
+     * @param min The minimum position of the volume
+     * @param max The maximum position of the volume
+     * @return The new volume
+     */
     BlockVolume.Mutable<@NonNull ?> empty(Palette<BlockState, BlockType> palette, RegistryReference<BlockType> defaultState, Vector3i min, Vector3i max);
 
+    /**
+     * Creates a packed copy of the blocks of the existing volume within the
+     * given range.
+     *
+     * @param existing The volume to copy
+     * @param newMin The minimum position of the copied range
+     * @param newMax The maximum position of the copied range
+     * @return The new volume
+     */
     BlockVolume.Mutable<@NonNull ?> copyFromRange(BlockVolume.Streamable<@NonNull ?> existing, Vector3i newMin, Vector3i newMax);
 
+    /**
+     * Creates a packed copy of the blocks of the existing volume.
+     *
+     * @param existing The volume to copy
+     * @return The new volume
+     */
     BlockVolume.Mutable<@NonNull ?> copy(BlockVolume.Streamable<@NonNull ?> existing);
 
     BlockVolume.Immutable immutableOf(BlockVolume.Streamable<@NonNull ?> existing);
 
     BlockVolume.Immutable immutableOf(BlockVolume.Streamable<@NonNull ?> existing, Vector3i newMin, Vector3i newMax);
 
+    /**
+     * Creates a lazily transformed view of the existing volume, see
+     * {@link BlockVolume#transformed(BlockVolume.Streamable, Vector3i, Rotation, Mirror)}.
+     *
+     * @param existing The volume to view
+     * @param pivot The position the volume is mirrored and rotated around
+     * @param rotation The rotation around the y axis
+     * @param mirror The mirror
+     * @return The transformed view
+     */
+    BlockVolume.Unmodifiable<@NonNull ?> transformed(BlockVolume.Streamable<@NonNull ?> existing, Vector3i pivot, Rotation rotation, Mirror mirror);
+
+    /**
+     * Computes the {@link BlockVolumeDelta} between two volumes of the same
+     * shape, see {@link BlockVolumeDelta#between(BlockVolume.Streamable, BlockVolume.Streamable)}.
+     *
+     * @param original The original volume
+     * @param modified The modified volume
+     * @return The delta
+     * @throws IllegalArgumentException If the volumes are not of the same shape
+     */
+    BlockVolumeDelta delta(BlockVolume.Streamable<@NonNull ?> original, BlockVolume.Streamable<@NonNull ?> modified);
+
 }
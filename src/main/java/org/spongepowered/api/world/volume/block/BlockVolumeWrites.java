@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.block;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Objects;
+
+/**
+ * The per-block fallbacks of the bulk writes of {@link BlockVolume.Mutable}
+ * and {@link PhysicsAwareMutableBlockVolume}, shared by both.
+ */
+final class BlockVolumeWrites {
+
+    static int fill(final Volume volume, final Vector3i min, final Vector3i max, final BlockState block, final BlockSetter setter) {
+        Objects.requireNonNull(block, "block");
+        BlockVolumeWrites.checkRegion(volume, min, max);
+        int changed = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    if (setter.setBlock(x, y, z, block)) {
+                        changed++;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    static int setBlocks(final Volume volume, final Vector3i min, final Vector3i max, final Palette<BlockState, BlockType> palette,
+            final int[] paletteIds, final BlockSetter setter) {
+        Objects.requireNonNull(palette, "palette");
+        Objects.requireNonNull(paletteIds, "paletteIds");
+        BlockVolumeWrites.checkRegion(volume, min, max);
+        final long length = ((long) max.getX() - min.getX() + 1) * ((long) max.getY() - min.getY() + 1) * ((long) max.getZ() - min.getZ() + 1);
+        if (paletteIds.length != length) {
+            throw new IllegalArgumentException("Expected " + length + " palette ids but got " + paletteIds.length);
+        }
+        // Resolve every id before anything is written, such that an invalid
+        // id does not leave a partial write behind
+        final RegistryHolder registries = Sponge.game().registries();
+        final BlockState[] resolved = new BlockState[palette.highestId() + 1];
+        for (final int id : paletteIds) {
+            if (id < 0 || id >= resolved.length) {
+                throw new IllegalArgumentException("Palette id " + id + " is out of range");
+            }
+            if (resolved[id] == null) {
+                resolved[id] = palette.get(id, registries).orElseThrow(() -> new IllegalArgumentException("Palette id " + id + " is not mapped"));
+            }
+        }
+        int changed = 0;
+        int index = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    if (setter.setBlock(x, y, z, resolved[paletteIds[index++]])) {
+                        changed++;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Checks the whole region before anything is written, such that a region
+     * reaching out of the volume does not leave a partial write behind.
+     */
+    static void checkRegion(final Volume volume, final Vector3i min, final Vector3i max) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        if (min.getX() > max.getX() || min.getY() > max.getY() || min.getZ() > max.getZ()) {
+            throw new IllegalArgumentException("Minimum coordinates must not be greater than the maximum coordinates");
+        }
+        if (!volume.containsBlock(min)) {
+            throw new PositionOutOfBoundsException(min, volume.blockMin(), volume.blockMax());
+        }
+        if (!volume.containsBlock(max)) {
+            throw new PositionOutOfBoundsException(max, volume.blockMin(), volume.blockMax());
+        }
+    }
+
+    private BlockVolumeWrites() {
+    }
+
+    @FunctionalInterface
+    interface BlockSetter {
+
+        boolean setBlock(int x, int y, int z, BlockState block);
+
+    }
+
+}
@@ -25,11 +25,15 @@
 package org.spongepowered.api.world.volume.block;
 
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.Objects;
+
 public interface PhysicsAwareMutableBlockVolume<P extends PhysicsAwareMutableBlockVolume<P>> extends BlockVolume.Mutable<P> {
 
     /**
@@ -99,4 +103,91 @@ default boolean setBlock(final Vector3i position, final BlockState blockState, f
      *         bounds of the volume
      */
     boolean setBlock(int x, int y, int z, BlockState blockState, BlockChangeFlag flag);
+
+    /**
+     * {@inheritDoc}
+     *
+     * Additionally, this performs what's considered to be "default" placement,
+     * see {@link BlockChangeFlags#DEFAULT_PLACEMENT}.
+     *
+     * @param min The minimum position of the region
+     * @param max The maximum position of the region
+     * @param block The block
+     * @return The number of blocks changed
+     */
+    @Override
+    default int fill(final Vector3i min, final Vector3i max, final BlockState block) {
+        return this.fill(min, max, block, BlockChangeFlags.DEFAULT_PLACEMENT);
+    }
+
+    /**
+     * Sets every block within the region between {@code min} and
+     * {@code max}, both inclusive, to the given {@link BlockState}.
+     *
+     * <p>Unlike calling {@link #setBlock(int, int, int, BlockState, BlockChangeFlag)}
+     * for every position, the interactions controlled by the {@link BlockChangeFlag},
+     * such as lighting, neighbor notifications and client synchronization,
+     * are performed once per modified chunk section.</p>
+     *
+     * @param min The minimum position of the region
+     * @param max The maximum position of the region
+     * @param block The block
+     * @param flag The various change flags controlling some interactions
+     * @return The number of blocks changed
+     * @throws IllegalArgumentException If a coordinate of {@code min} is
+     *         greater than the same coordinate of {@code max}
+     * @throws PositionOutOfBoundsException If the region is not contained
+     *         within the bounds of the volume
+     */
+    default int fill(final Vector3i min, final Vector3i max, final BlockState block, final BlockChangeFlag flag) {
+        Objects.requireNonNull(flag, "flag");
+        return BlockVolumeWrites.fill(this, min, max, block, (x, y, z, state) -> this.setBlock(x, y, z, state, flag));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Additionally, this performs what's considered to be "default" placement,
+     * see {@link BlockChangeFlags#DEFAULT_PLACEMENT}.
+     *
+     * @param min The minimum position of the region
+     * @param max The maximum position of the region
+     * @param palette The palette the identifiers belong to
+     * @param paletteIds The identifiers of the blocks to set
+     * @return The number of blocks changed
+     */
+    @Override
+    default int setBlocks(final Vector3i min, final Vector3i max, final Palette<BlockState, BlockType> palette, final int[] paletteIds) {
+        return this.setBlocks(min, max, palette, paletteIds, BlockChangeFlags.DEFAULT_PLACEMENT);
+    }
+
+    /**
+     * Sets the blocks within the region between {@code min} and
+     * {@code max}, both inclusive, from an array of identifiers of the
+     * given {@link Palette}, ordered as described by
+     * {@link #setBlocks(Vector3i, Vector3i, Palette, int[])}.
+     *
+     * <p>Unlike calling {@link #setBlock(int, int, int, BlockState, BlockChangeFlag)}
+     * for every position, the interactions controlled by the {@link BlockChangeFlag},
+     * such as lighting, neighbor notifications and client synchronization,
+     * are performed once per modified chunk section.</p>
+     *
+     * @param min The minimum position of the region
+     * @param max The maximum position of the region
+     * @param palette The palette the identifiers belong to
+     * @param paletteIds The identifiers of the blocks to set
+     * @param flag The various change flags controlling some interactions
+     * @return The number of blocks changed
+     * @throws IllegalArgumentException If a coordinate of {@code min} is
+     *         greater than the same coordinate of {@code max}, if the number
+     *         of identifiers does not match the size of the region, or if an
+     *         identifier is not present in the palette
+     * @throws PositionOutOfBoundsException If the region is not contained
+     *         within the bounds of the volume
+     */
+    default int setBlocks(final Vector3i min, final Vector3i max, final Palette<BlockState, BlockType> palette, final int[] paletteIds,
+            final BlockChangeFlag flag) {
+        Objects.requireNonNull(flag, "flag");
+        return BlockVolumeWrites.setBlocks(this, min, max, palette, paletteIds, (x, y, z, state) -> this.setBlock(x, y, z, state, flag));
+    }
 }
@@ -42,7 +42,9 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -140,6 +142,213 @@ default Collection<? extends Entity> nearbyEntities(Vector3d location, double di
             entity -> entity.location().position().distanceSquared(location) <= distance * distance);
     }
 
+    /**
+     * Adds all the entities that intersect the bounding box and pass the
+     * given filter test to the provided collection, in no particular order.
+     *
+     * <p>Unlike {@link #entities(AABB, Predicate)}, implementations should
+     * avoid creating any collection for this query, such that the same
+     * collection can be cleared and reused on hot paths. World
+     * implementations are expected to answer this query from a spatial index
+     * kept per chunk section and updated as entities move, only visiting the
+     * sections intersecting the box. The default implementation delegates to
+     * {@link #entities(AABB, Predicate)} and does allocate.</p>
+     *
+     * @param box The intersection box
+     * @param filter The filter test
+     * @param output The collection to add the entities to
+     * @return The number of entities added
+     */
+    default int entities(final AABB box, final Predicate<? super Entity> filter, final Collection<? super Entity> output) {
+        Objects.requireNonNull(box, "box");
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(output, "output");
+        int added = 0;
+        for (final Entity entity : this.entities(box, filter)) {
+            output.add(entity);
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Adds all the entities of the given {@link EntityType} that intersect the
+     * bounding box and pass the given filter test to the provided collection,
+     * in no particular order. See {@link #entities(AABB, Predicate, Collection)}.
+     *
+     * @param type The type of entities to find
+     * @param box The intersection box
+     * @param filter The filter test
+     * @param output The collection to add the entities to
+     * @param <E> The type of entity
+     * @return The number of entities added
+     */
+    @SuppressWarnings("unchecked")
+    default <E extends Entity> int entities(final EntityType<E> type, final AABB box, final Predicate<? super E> filter,
+            final Collection<? super E> output) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(output, "output");
+        int added = 0;
+        for (final Entity entity : this.entities(box, entity -> entity.type() == type && filter.test((E) entity))) {
+            output.add((E) entity);
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Adds all the entities within {@code distance} blocks of the specified
+     * location that pass the given filter test to the provided collection, in
+     * no particular order. This uses a sphere to test distances, see
+     * {@link #entities(AABB, Predicate, Collection)}.
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param filter The filter test
+     * @param output The collection to add the entities to
+     * @return The number of entities added
+     */
+    default int nearbyEntities(final Vector3d location, final double distance, final Predicate<? super Entity> filter,
+            final Collection<? super Entity> output) {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(filter, "filter");
+        if (distance <= 0) {
+            throw new IllegalArgumentException("Distance must be a positive number!");
+        }
+        return this.entities(AABB.of(location.getX() - distance, location.getY() - distance, location.getZ() - distance,
+                location.getX() + distance, location.getY() + distance, location.getZ() + distance),
+            entity -> entity.location().position().distanceSquared(location) <= distance * distance && filter.test(entity), output);
+    }
+
+    /**
+     * Adds all the entities of the given {@link EntityType} within
+     * {@code distance} blocks of the specified location that pass the given
+     * filter test to the provided collection, in no particular order. See
+     * {@link #nearbyEntities(Vector3d, double, Predicate, Collection)}.
+     *
+     * @param type The type of entities to find
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param filter The filter test
+     * @param output The collection to add the entities to
+     * @param <E> The type of entity
+     * @return The number of entities added
+     */
+    default <E extends Entity> int nearbyEntities(final EntityType<E> type, final Vector3d location, final double distance,
+            final Predicate<? super E> filter, final Collection<? super E> output) {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(filter, "filter");
+        if (distance <= 0) {
+            throw new IllegalArgumentException("Distance must be a positive number!");
+        }
+        return this.entities(type, AABB.of(location.getX() - distance, location.getY() - distance, location.getZ() - distance,
+                location.getX() + distance, location.getY() + distance, location.getZ() + distance),
+            entity -> entity.location().position().distanceSquared(location) <= distance * distance && filter.test(entity), output);
+    }
+
+    /**
+     * Adds up to {@code count} entities within {@code distance} blocks of the
+     * specified location that pass the given filter test to the provided
+     * list, ordered from the nearest to the furthest.
+     *
+     * <p>World implementations are expected to answer this query from the
+     * spatial index, visiting the chunk sections around the location in order
+     * of distance and stopping as soon as no closer entity can be found. The
+     * default implementation collects and sorts all nearby entities in a
+     * temporary list.</p>
+     *
+     * @param location The location to measure distances from
+     * @param distance The search radius
+     * @param count The maximum number of entities to find
+     * @param filter The filter test
+     * @param output The list to add the entities to
+     * @return The number of entities added
+     */
+    default int nearestEntities(final Vector3d location, final double distance, final int count, final Predicate<? super Entity> filter,
+            final List<? super Entity> output) {
+        Objects.requireNonNull(output, "output");
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be a positive number!");
+        }
+        final List<Entity> nearby = new ArrayList<>();
+        this.nearbyEntities(location, distance, filter, nearby);
+        nearby.sort(Comparator.comparingDouble(entity -> entity.location().position().distanceSquared(location)));
+        final int added = Math.min(count, nearby.size());
+        output.addAll(nearby.subList(0, added));
+        return added;
+    }
+
+    /**
+     * Adds up to {@code count} entities of the given {@link EntityType}
+     * within {@code distance} blocks of the specified location that pass the
+     * given filter test to the provided list, ordered from the nearest to the
+     * furthest. See {@link #nearestEntities(Vector3d, double, int, Predicate, List)}.
+     *
+     * @param type The type of entities to find
+     * @param location The location to measure distances from
+     * @param distance The search radius
+     * @param count The maximum number of entities to find
+     * @param filter The filter test
+     * @param output The list to add the entities to
+     * @param <E> The type of entity
+     * @return The number of entities added
+     */
+    default <E extends Entity> int nearestEntities(final EntityType<E> type, final Vector3d location, final double distance, final int count,
+            final Predicate<? super E> filter, final List<? super E> output) {
+        Objects.requireNonNull(output, "output");
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be a positive number!");
+        }
+        final List<E> nearby = new ArrayList<>();
+        this.nearbyEntities(type, location, distance, filter, nearby);
+        nearby.sort(Comparator.comparingDouble(entity -> entity.location().position().distanceSquared(location)));
+        final int added = Math.min(count, nearby.size());
+        output.addAll(nearby.subList(0, added));
+        return added;
+    }
+
+    /**
+     * Adds up to {@code count} {@link Player players} within {@code distance}
+     * blocks of the specified location that pass the given filter test to
+     * the provided list, ordered from the nearest to the furthest. This is
+     * the counterpart of {@link #nearestEntities(Vector3d, double, int, Predicate, List)}
+     * for {@link #players()}, see there for the expectations on
+     * implementations.
+     *
+     * <p>The default implementation collects and sorts all players in range
+     * in a temporary list.</p>
+     *
+     * @param location The location to measure distances from
+     * @param distance The search radius
+     * @param count The maximum number of players to find
+     * @param filter The filter test
+     * @param output The list to add the players to
+     * @return The number of players added
+     */
+    default int nearestPlayers(final Vector3d location, final double distance, final int count, final Predicate<? super Player> filter,
+            final List<? super Player> output) {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(output, "output");
+        if (distance <= 0) {
+            throw new IllegalArgumentException("Distance must be a positive number!");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be a positive number!");
+        }
+        final List<Player> nearby = new ArrayList<>();
+        for (final Player player : this.players()) {
+            if (player.position().distanceSquared(location) <= distance * distance && filter.test(player)) {
+                nearby.add(player);
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(player -> player.position().distanceSquared(location)));
+        final int added = Math.min(count, nearby.size());
+        output.addAll(nearby.subList(0, added));
+        return added;
+    }
+
     interface Streamable<E extends Streamable<E>> extends EntityVolume {
 
         /**
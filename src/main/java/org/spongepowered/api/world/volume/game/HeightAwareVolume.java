@@ -25,8 +25,13 @@
 package org.spongepowered.api.world.volume.game;
 
 import org.spongepowered.api.world.HeightType;
+import org.spongepowered.math.vector.Vector2i;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
+import java.util.Objects;
+
 public interface HeightAwareVolume {
 
     default Vector3i height(HeightType type, Vector3i position) {
@@ -35,4 +40,108 @@ default Vector3i height(HeightType type, Vector3i position) {
 
     int height(HeightType type, int x, int z);
 
+    /**
+     * Gets the heights of all the columns between {@code (minX, minZ)} and
+     * {@code (maxX, maxZ)}, both inclusive, for the given {@link HeightType},
+     * writing them to the output array starting at {@code offset}. The heights
+     * are ordered with the {@code x} coordinate varying fastest, such that the
+     * height of a column is found at
+     * {@code offset + (z - minZ) * (maxX - minX + 1) + (x - minX)}.
+     *
+     * <p>Implementations backed by chunks read each heightmap once, in a
+     * single pass over the columns of the chunk within the range. When
+     * performed on an unmodifiable snapshot of a volume, this may be called
+     * from any thread.</p>
+     *
+     * @param type The type of height
+     * @param minX The minimum x coordinate
+     * @param minZ The minimum z coordinate
+     * @param maxX The maximum x coordinate
+     * @param maxZ The maximum z coordinate
+     * @param output The array to write the heights to
+     * @param offset The index of the output array to start writing at
+     * @throws IllegalArgumentException If a minimum coordinate is greater
+     *         than its maximum coordinate
+     * @throws IndexOutOfBoundsException If the output array cannot hold all
+     *         the heights from the given offset
+     */
+    default void heights(final HeightType type, final int minX, final int minZ, final int maxX, final int maxZ, final int[] output,
+            final int offset) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(output, "output");
+        if (minX > maxX || minZ > maxZ) {
+            throw new IllegalArgumentException("Minimum coordinates must not be greater than the maximum coordinates");
+        }
+        final long length = ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+        if (offset < 0 || length > output.length - offset) {
+            throw new IndexOutOfBoundsException("Cannot write " + length + " heights at offset " + offset + " of an array of length "
+                + output.length);
+        }
+        int index = offset;
+        for (int z = minZ; z <= maxZ; z++) {
+            for (int x = minX; x <= maxX; x++) {
+                output[index++] = this.height(type, x, z);
+            }
+        }
+    }
+
+    /**
+     * Gets the heights of all the columns between {@code min} and
+     * {@code max}, both inclusive, for the given {@link HeightType}, see
+     * {@link #heights(HeightType, int, int, int, int, int[], int)}.
+     *
+     * @param type The type of height
+     * @param min The minimum column
+     * @param max The maximum column
+     * @return The heights
+     * @throws IllegalArgumentException If a coordinate of {@code min} is
+     *         greater than the same coordinate of {@code max}
+     */
+    default int[] heights(final HeightType type, final Vector2i min, final Vector2i max) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        if (min.getX() > max.getX() || min.getY() > max.getY()) {
+            throw new IllegalArgumentException("Minimum coordinates must not be greater than the maximum coordinates");
+        }
+        final int[] heights = new int[(max.getX() - min.getX() + 1) * (max.getY() - min.getY() + 1)];
+        this.heights(type, min.getX(), min.getY(), max.getX(), max.getY(), heights, 0);
+        return heights;
+    }
+
+    /**
+     * Gets the heights of all the columns between {@code (minX, minZ)} and
+     * {@code (maxX, maxZ)}, both inclusive, for the given {@link HeightType},
+     * putting them into the buffer at its current position in the order
+     * described by {@link #heights(HeightType, int, int, int, int, int[], int)}.
+     *
+     * @param type The type of height
+     * @param minX The minimum x coordinate
+     * @param minZ The minimum z coordinate
+     * @param maxX The maximum x coordinate
+     * @param maxZ The maximum z coordinate
+     * @param output The buffer to put the heights into
+     * @throws IllegalArgumentException If a minimum coordinate is greater
+     *         than its maximum coordinate
+     * @throws BufferOverflowException If the buffer does not have enough
+     *         remaining space for all the heights
+     */
+    default void heights(final HeightType type, final int minX, final int minZ, final int maxX, final int maxZ, final IntBuffer output) {
+        Objects.requireNonNull(output, "output");
+        if (minX > maxX || minZ > maxZ) {
+            throw new IllegalArgumentException("Minimum coordinates must not be greater than the maximum coordinates");
+        }
+        final long length = ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+        if (output.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (output.hasArray()) {
+            this.heights(type, minX, minZ, maxX, maxZ, output.array(), output.arrayOffset() + output.position());
+            output.position(output.position() + (int) length);
+        } else {
+            final int[] heights = new int[(int) length];
+            this.heights(type, minX, minZ, maxX, maxZ, heights, 0);
+            output.put(heights);
+        }
+    }
+
 }
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.Volume;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * The {@link VolumeCursor} used by the default cursor methods of
+ * {@link VolumeStream}, repositioned for every visited element.
+ */
+final class ReusableVolumeCursor<V extends Volume, T> implements VolumeCursor<V, T> {
+
+    /**
+     * Provides the cursor to reuse for a stream operation. Sequential streams
+     * share a single cursor, parallel streams get one cursor per worker thread.
+     */
+    static <V extends Volume, T> Supplier<ReusableVolumeCursor<V, T>> provider(final boolean parallel) {
+        if (parallel) {
+            final ThreadLocal<ReusableVolumeCursor<V, T>> cursors = ThreadLocal.withInitial(ReusableVolumeCursor::new);
+            return cursors::get;
+        }
+        final ReusableVolumeCursor<V, T> cursor = new ReusableVolumeCursor<>();
+        return () -> cursor;
+    }
+
+    private @Nullable V volume;
+    private @Nullable T type;
+    private int x;
+    private int y;
+    private int z;
+
+    ReusableVolumeCursor<V, T> set(final V volume, final T type, final int x, final int y, final int z) {
+        this.volume = volume;
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    @Override
+    public V volume() {
+        return Objects.requireNonNull(this.volume, "Cursor is not positioned");
+    }
+
+    @Override
+    public T type() {
+        return Objects.requireNonNull(this.type, "Cursor is not positioned");
+    }
+
+    @Override
+    public int x() {
+        return this.x;
+    }
+
+    @Override
+    public int y() {
+        return this.y;
+    }
+
+    @Override
+    public int z() {
+        return this.z;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", VolumeCursor.class.getSimpleName() + "[", "]")
+            .add("volume=" + this.volume)
+            .add("x=" + this.x)
+            .add("y=" + this.y)
+            .add("z=" + this.z)
+            .toString();
+    }
+
+}
@@ -43,6 +43,10 @@ public static StreamOptions forceLoadedAndCopied() {
         return StreamOptions.builder().setCarbonCopy(true).setLoadingStyle(LoadingStyle.FORCED_GENERATED).build();
     }
 
+    public static StreamOptions forceLoadedAndCopiedOnWrite() {
+        return StreamOptions.builder().setCarbonCopy(true).setCopyOnWrite(true).setLoadingStyle(LoadingStyle.FORCED_GENERATED).build();
+    }
+
     enum LoadingStyle {
         /**
          * Forces the loading of the entire area to calculate the exact
@@ -167,6 +171,25 @@ public boolean immediateLoading() {
      */
     boolean carbonCopy();
 
+    /**
+     * Whether the {@link #carbonCopy() carbon copy} is made lazily, on a per
+     * section basis, rather than duplicating the entire area before the
+     * stream is iterated. The stream shares the chunk section storage of the
+     * targeted {@link Volume}, and a section is only copied when the
+     * {@link Volume} is about to modify it while the stream is still open,
+     * such that the stream observes the area as it was when it was created.
+     *
+     * <p>The shared sections are released once a terminal operation of the
+     * {@link VolumeStream} completes. Compared to an eager carbon copy, this
+     * avoids both the upfront cost of the copy and the memory of sections
+     * that are never modified during the lifetime of the stream.</p>
+     *
+     * <p>This has no effect unless {@link #carbonCopy()} is {@code true}.</p>
+     *
+     * @return True if the carbon copy is copied on write
+     */
+    boolean copyOnWrite();
+
     /**
      * Determines the loading style of sections to populate elements for a Stream,
      * such that the area may be pre-calculated or the elements precalculated based
@@ -176,12 +199,62 @@ public boolean immediateLoading() {
      */
     LoadingStyle loadingStyle();
 
+    /**
+     * Gets the number of workers the {@link VolumeStream} may use to
+     * evaluate its terminal operations. A value of {@code 1} means the
+     * stream is evaluated sequentially on the calling thread, which is the
+     * default.
+     *
+     * <p>When greater than {@code 1}, the requested area is split along
+     * chunk section boundaries (16x16x16 aligned) and each section is
+     * evaluated as an independent task on a fork-join pool. Intermediary
+     * operations such as {@link VolumeStream#filter(VolumePredicate)} and
+     * {@link VolumeStream#map(VolumeMapper)} are then called concurrently
+     * and must not depend on the iteration order or mutate shared state
+     * without synchronization. Results are merged per section, and any
+     * {@link VolumeCollector} passed to {@link VolumeStream#apply(VolumeCollector)}
+     * receives its elements section by section in ascending {@code y},
+     * {@code z}, {@code x} order of the section coordinates, on the thread
+     * that invoked the terminal operation.</p>
+     *
+     * <p>The encounter order of the sequential stream is otherwise not
+     * preserved: {@link VolumeStream#forEach(VolumeConsumer)} is called
+     * concurrently for elements of different sections, in no particular
+     * order, while the elements of a single section are still visited in
+     * order by one worker. {@link VolumeStream#findFirst()} does preserve
+     * it and always returns the element the sequential stream would return,
+     * whereas {@link VolumeStream#findAny()} returns whichever matching
+     * element is found first.</p>
+     *
+     * @return The parallelism of the stream, always at least {@code 1}
+     */
+    int parallelism();
+
     interface Builder extends org.spongepowered.api.util.Builder<StreamOptions, Builder> {
 
         Builder setCarbonCopy(boolean copies);
 
+        /**
+         * Sets whether the carbon copy is made lazily per section as the
+         * targeted volume is modified, see {@link StreamOptions#copyOnWrite()}.
+         *
+         * @param copyOnWrite Whether to copy sections on write
+         * @return This builder, for chaining
+         */
+        Builder setCopyOnWrite(boolean copyOnWrite);
+
         Builder setLoadingStyle(LoadingStyle style);
 
+        /**
+         * Sets the number of workers the {@link VolumeStream} may use
+         * to evaluate the stream, see {@link StreamOptions#parallelism()}.
+         *
+         * @param parallelism The parallelism, must be at least {@code 1}
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the parallelism is less than 1
+         */
+        Builder setParallelism(int parallelism);
+
         StreamOptions build();
 
     }
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * A mutable, reusable view of the element currently being visited by a
+ * {@link VolumeStream}. Unlike a {@link VolumeElement}, a cursor is not
+ * created for every position: the same instance is moved from position to
+ * position, exposing the coordinates as primitives such that visiting a
+ * large area does not allocate per element.
+ *
+ * <p>As a consequence, a cursor is only valid for the duration of the
+ * callback it was passed to, and must not be retained or shared between
+ * threads. Use {@link #toElement()} to keep a stable copy of the current
+ * element.</p>
+ *
+ * @param <V> The type of volume
+ * @param <T> The type of element
+ */
+public interface VolumeCursor<V extends Volume, T> {
+
+    /**
+     * Gets the volume the current element belongs to.
+     *
+     * @return The volume
+     */
+    V volume();
+
+    /**
+     * Gets the current element.
+     *
+     * @return The element
+     */
+    T type();
+
+    /**
+     * Gets the x coordinate of the current element.
+     *
+     * @return The x coordinate
+     */
+    int x();
+
+    /**
+     * Gets the y coordinate of the current element.
+     *
+     * @return The y coordinate
+     */
+    int y();
+
+    /**
+     * Gets the z coordinate of the current element.
+     *
+     * @return The z coordinate
+     */
+    int z();
+
+    /**
+     * Gets the position of the current element. This allocates a new
+     * {@link Vector3i}, prefer {@link #x()}, {@link #y()} and {@link #z()}
+     * where possible.
+     *
+     * @return The position
+     */
+    default Vector3i position() {
+        return new Vector3i(this.x(), this.y(), this.z());
+    }
+
+    /**
+     * Creates a {@link VolumeElement} snapshot of the current element that
+     * remains valid after the cursor has moved on.
+     *
+     * @return The element snapshot
+     */
+    default VolumeElement<V, T> toElement() {
+        return VolumeElement.of(this.volume(), this.type(), this.position());
+    }
+
+}
@@ -32,6 +32,7 @@
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -51,12 +52,27 @@
  *     <li>{@link #map(VolumeMapper) map(VolumeMapper&lt;V, T&gt;)}</li>
  *     <li>{@link #map(Function) map(Function&lt;VolumeElement&lt;V, T&gt;&gt;)}</li>
  * </ul>
+ * <p>Each operation accepting a {@link VolumeElement} based function also
+ * has a cursor variant, such as {@link #filterCursor(Predicate)}, that passes
+ * a reused {@link VolumeCursor} instead, avoiding an allocation per element.
  * <p><strong>Terminal Operations</strong>
  * <p>These operations are consuming the entirety of the stream, after all
  * intermediary operations are performed on elements, perhaps filtering, or
  * perhaps supplying different instances as "replacements".
  * TODO flesh out the description of VolumeStream
  *
+ * <p><strong>Parallel Execution</strong>
+ * <p>By default a stream is evaluated sequentially, visiting each position
+ * in order. If the stream was created with {@link StreamOptions#parallelism()}
+ * greater than {@code 1}, the terminal operations split the area along chunk
+ * section boundaries and evaluate the sections concurrently. Counts and
+ * matches are merged per section, and {@link #apply(VolumeCollector)} writes
+ * the results back through the {@link VolumeCollector} in a defined section
+ * order, see {@link #isParallel()}. Encounter order is only preserved by
+ * {@link #findFirst()} and {@link #apply(VolumeCollector)};
+ * {@link #forEach(VolumeConsumer)} visits the sections in no particular
+ * order, see {@link StreamOptions#parallelism()}.
+ *
  * @param <V> The type of volume backing this Stream
  * @param <T> The type of element being iterated on
  */
@@ -64,18 +80,54 @@
 
     V volume();
 
+    /**
+     * Gets whether the terminal operations of this stream are evaluated
+     * concurrently on a per chunk section basis, as requested through
+     * {@link StreamOptions#parallelism()}.
+     *
+     * @return True if this stream is evaluated in parallel
+     */
+    boolean isParallel();
+
     VolumeStream<V, T> filter(VolumePredicate<V, T> predicate);
 
     default VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.filter((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3i(x, y, z))));
     }
 
+    /**
+     * Filters this stream with a {@link Predicate} that is handed a reused
+     * {@link VolumeCursor} instead of a new {@link VolumeElement} for every
+     * position.
+     *
+     * @param predicate The predicate, must not retain the cursor
+     * @return The filtered stream
+     */
+    default VolumeStream<V, T> filterCursor(final Predicate<? super VolumeCursor<V, T>> predicate) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        return this.filter((volume, element, x, y, z) -> predicate.test(cursor.get().set(volume, element, x, y, z)));
+    }
+
     <Out> VolumeStream<V, Out> map(VolumeMapper<V, T, Out> mapper);
 
     default <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? extends Out> mapper) {
         return this.map(((volume, value, x, y, z) -> mapper.apply(VolumeElement.of(volume, value, new Vector3i(x, y, z)))));
     }
 
+    /**
+     * Maps this stream with a {@link Function} that is handed a reused
+     * {@link VolumeCursor} instead of a new {@link VolumeElement} for every
+     * position.
+     *
+     * @param mapper The mapper, must not retain the cursor
+     * @param <Out> The type of the mapped elements
+     * @return The mapped stream
+     */
+    default <Out> VolumeStream<V, Out> mapCursor(final Function<? super VolumeCursor<V, T>, ? extends Out> mapper) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        return this.map((volume, value, x, y, z) -> mapper.apply(cursor.get().set(volume, value, x, y, z)));
+    }
+
     VolumeStream<V, Optional<? extends T>> flatMap(VolumeFlatMapper<V, T> mapper);
 
     default VolumeStream<V, Optional<? extends T>> flatMap(final Function<VolumeElement<V, T>, Optional<? extends T>> mapper) {
@@ -90,24 +142,75 @@ default boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate)
         return this.allMatch(((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3i(x, y, z)))));
     }
 
+    /**
+     * Returns whether all elements of this stream match the given
+     * {@link Predicate}, which is handed a reused {@link VolumeCursor}
+     * instead of a new {@link VolumeElement} for every position.
+     *
+     * @param predicate The predicate, must not retain the cursor
+     * @return True if all elements match
+     */
+    default boolean allMatchCursor(final Predicate<? super VolumeCursor<V, T>> predicate) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        return this.allMatch((volume, element, x, y, z) -> predicate.test(cursor.get().set(volume, element, x, y, z)));
+    }
+
     boolean noneMatch(VolumePredicate<V, ? super T> predicate);
 
     default boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.noneMatch((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3i(x, y, z))));
     }
 
+    /**
+     * Returns whether no element of this stream matches the given
+     * {@link Predicate}, which is handed a reused {@link VolumeCursor}
+     * instead of a new {@link VolumeElement} for every position.
+     *
+     * @param predicate The predicate, must not retain the cursor
+     * @return True if no element matches
+     */
+    default boolean noneMatchCursor(final Predicate<? super VolumeCursor<V, T>> predicate) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        return this.noneMatch((volume, element, x, y, z) -> predicate.test(cursor.get().set(volume, element, x, y, z)));
+    }
+
     boolean anyMatch(VolumePredicate<V, ? super T> predicate);
 
     default boolean anyMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.anyMatch((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3i(x, y, z))));
     }
 
+    /**
+     * Returns whether any element of this stream matches the given
+     * {@link Predicate}, which is handed a reused {@link VolumeCursor}
+     * instead of a new {@link VolumeElement} for every position.
+     *
+     * @param predicate The predicate, must not retain the cursor
+     * @return True if any element matches
+     */
+    default boolean anyMatchCursor(final Predicate<? super VolumeCursor<V, T>> predicate) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        return this.anyMatch((volume, element, x, y, z) -> predicate.test(cursor.get().set(volume, element, x, y, z)));
+    }
+
     Optional<VolumeElement<V, T>> findFirst();
 
     Optional<VolumeElement<V, T>> findAny();
 
     Stream<VolumeElement<V, T>> toStream();
 
+    /**
+     * Gets a {@link Stream} over the elements of this volume stream that
+     * yields a reused {@link VolumeCursor} for every element rather than
+     * allocating a {@link VolumeElement}. As the cursor moves on once the
+     * next element is requested, operations that retain elements, such as
+     * {@link Stream#collect}, {@link Stream#sorted()} or {@link Stream#distinct()},
+     * must first take a snapshot with {@link VolumeCursor#toElement()}.
+     *
+     * @return The cursor stream
+     */
+    Stream<VolumeCursor<V, T>> toCursorStream();
+
     default <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
         this.applyUntil(collector, (result) -> true);
     }
@@ -120,4 +223,16 @@ default void forEach(final Consumer<VolumeElement<V, T>> consumer) {
         this.forEach((volume, type, x, y, z) -> consumer.accept(VolumeElement.of(volume, type, new Vector3i(x, y, z))));
     }
 
+    /**
+     * Performs the given action for each element of this stream, handing it
+     * a reused {@link VolumeCursor} instead of a new {@link VolumeElement}
+     * for every position.
+     *
+     * @param consumer The action, must not retain the cursor
+     */
+    default void forEachCursor(final Consumer<? super VolumeCursor<V, T>> consumer) {
+        final Supplier<ReusableVolumeCursor<V, T>> cursor = ReusableVolumeCursor.provider(this.isParallel());
+        this.forEach((volume, type, x, y, z) -> consumer.accept(cursor.get().set(volume, type, x, y, z)));
+    }
+
 }
@@ -27,6 +27,7 @@
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.google.common.collect.ImmutableList;
 import org.hamcrest.MatcherAssert;
@@ -34,6 +35,7 @@
 import org.spongepowered.api.data.persistence.DataQuery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 class DataQueryTest {
@@ -157,4 +159,52 @@ void testEquals() {
         MatcherAssert.assertThat(query1, is(not(nonEqual)));
     }
 
+    /**
+     * Method: of(char separator, String path) splitting like String#split
+     */
+    @Test
+    void testOfForSeparatorPathSplitting() {
+        final String[] paths = {"", "a", "a.b", "a..b", ".a", "a.", "a..", "...", ".a.b.."};
+        for (final String path : paths) {
+            final List<String> expected = Arrays.asList(path.split("\\."));
+            MatcherAssert.assertThat(path, DataQuery.of('.', path).parts(), is(equalTo(expected)));
+            MatcherAssert.assertThat(path, DataQuery.of('/', path.replace('.', '/')).parts(), is(equalTo(expected)));
+        }
+    }
+
+    /**
+     * Method: of(char separator, String path) for cached paths
+     */
+    @Test
+    void testOfForSeparatorPathCached() {
+        final DataQuery first = DataQuery.of('.', "cached.test.path");
+        final DataQuery second = DataQuery.of('.', "cached.test.path");
+        MatcherAssert.assertThat(second, is(sameInstance(first)));
+    }
+
+    /**
+     * Method: then(String that)
+     */
+    @Test
+    void testThenPart() {
+        final DataQuery base = DataQuery.of("this", "test");
+        final DataQuery query = base.then("query");
+        final DataQuery expected = DataQuery.of("this", "test", "query");
+        MatcherAssert.assertThat(query, is(equalTo(expected)));
+        MatcherAssert.assertThat(query.hashCode(), is(equalTo(expected.hashCode())));
+        MatcherAssert.assertThat(query.pop(), is(sameInstance(base)));
+        MatcherAssert.assertThat(base.then("other"), is(not(query)));
+        MatcherAssert.assertThat(query.parts(), is(equalTo(Arrays.asList("this", "test", "query"))));
+    }
+
+    /**
+     * Method: popFirst()
+     */
+    @Test
+    void testPopFirst() {
+        final DataQuery query = DataQuery.of("this", "test", "query");
+        MatcherAssert.assertThat(query.popFirst(), is(equalTo(DataQuery.of("test", "query"))));
+        MatcherAssert.assertThat(DataQuery.of("single").popFirst(), is(equalTo(DataQuery.of())));
+    }
+
 }
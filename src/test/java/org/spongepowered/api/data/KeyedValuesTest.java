@@ -0,0 +1,73 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.value.Value;
+
+import java.util.Optional;
+
+class KeyedValuesTest {
+
+    @SuppressWarnings("unchecked")
+    private static <E> Key<Value<E>> key(final int ordinal) {
+        final Key<Value<E>> key = mock(Key.class);
+        when(key.ordinal()).thenReturn(ordinal);
+        return key;
+    }
+
+    @Test
+    void testPutAndGet() {
+        final Key<Value<Integer>> first = KeyedValuesTest.key(0);
+        final Key<Value<String>> second = KeyedValuesTest.key(40);
+        final Key<Value<String>> absent = KeyedValuesTest.key(7);
+        final KeyedValues values = new KeyedValues()
+            .put(first, 3)
+            .put(second, "value")
+            .put(first, 5);
+        Assertions.assertEquals(2, values.size());
+        Assertions.assertEquals(Optional.of(5), values.get(first));
+        Assertions.assertEquals("value", values.getOrNull(second));
+        Assertions.assertFalse(values.contains(absent));
+        Assertions.assertNull(values.getOrNull(KeyedValuesTest.<String>key(1000)));
+    }
+
+    @Test
+    void testClear() {
+        final Key<Value<Integer>> key = KeyedValuesTest.key(3);
+        final KeyedValues values = new KeyedValues().put(key, 1);
+        values.clear();
+        Assertions.assertTrue(values.isEmpty());
+        Assertions.assertFalse(values.contains(key));
+        Assertions.assertEquals(Optional.empty(), values.get(key));
+        values.put(key, 2);
+        Assertions.assertEquals(Optional.of(2), values.get(key));
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.api.data.persistence.AbstractDataBuilder;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.tools.Diagnostic;
+
+class DataCodecProcessorTest {
+
+    @TempDir
+    Path root;
+
+    private ProcessorCompilation compile(final String name, final String... lines) throws Exception {
+        return ProcessorCompilation.compile(this.root, new DataCodecProcessor(), Collections.singletonMap(name, String.join("\n", lines)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataTranslator<Object> translator(final ClassLoader loader, final String name) throws Exception {
+        return (DataTranslator<Object>) loader.loadClass(name).getField("INSTANCE").get(null);
+    }
+
+    @Test
+    void testGeneratesTranslatorAndBuilder() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Point",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "import org.spongepowered.api.data.persistence.DataContainer;",
+            "import org.spongepowered.api.data.persistence.DataSerializable;",
+            "import java.util.Arrays;",
+            "import java.util.List;",
+            "import java.util.Objects;",
+            "@DataCodec(version = 2)",
+            "public class Point implements DataSerializable {",
+            "    public enum Mode { ABSOLUTE, RELATIVE }",
+            "    final int x;",
+            "    @DataCodec.Query(\"position.y\") final int y;",
+            "    final List<String> tags;",
+            "    final Mode mode;",
+            "    @DataCodec.Query(\"modes\\n\\t\\\"\\\\\\u0001\") final List<Mode> modes;",
+            "    public Point(final int x, final int y, final List<String> tags, final Mode mode, final List<Mode> modes) {",
+            "        this.x = x; this.y = y; this.tags = tags; this.mode = mode; this.modes = modes;",
+            "    }",
+            "    public static Point sample() {",
+            "        return new Point(1, 2, Arrays.asList(\"a\", \"b\"), Mode.RELATIVE, Arrays.asList(Mode.ABSOLUTE, Mode.RELATIVE));",
+            "    }",
+            "    @Override public int contentVersion() { return 2; }",
+            "    @Override public DataContainer toContainer() { return PointDataTranslator.INSTANCE.translate(this); }",
+            "    @Override public boolean equals(final Object o) {",
+            "        if (!(o instanceof Point)) { return false; }",
+            "        final Point other = (Point) o;",
+            "        return this.x == other.x && this.y == other.y && Objects.equals(this.tags, other.tags) && this.mode == other.mode",
+            "            && Objects.equals(this.modes, other.modes);",
+            "    }",
+            "    @Override public int hashCode() { return Objects.hash(this.x, this.y, this.tags, this.mode, this.modes); }",
+            "}");
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        final String source = compilation.generatedSource("test.PointDataTranslator").orElse("");
+        Assertions.assertTrue(source.contains("DataQuery.of('.', \"position.y\")"), source);
+        Assertions.assertTrue(source.contains("DataQuery.of('.', \"modes\\n\\t\\\"\\\\\\u0001\")"), source);
+        Assertions.assertTrue(source.contains("return new test.Point("), source);
+
+        final ClassLoader loader = compilation.classLoader();
+        final DataTranslator<Object> translator = DataCodecProcessorTest.translator(loader, "test.PointDataTranslator");
+        final Object point = loader.loadClass("test.Point").getMethod("sample").invoke(null);
+        final DataContainer container = translator.translate(point);
+        Assertions.assertEquals(Optional.of(Arrays.asList("ABSOLUTE", "RELATIVE")),
+            container.getStringList(DataQuery.of('.', "modes\n\t\"\\\u0001")));
+        Assertions.assertEquals(point, translator.translate(container));
+
+        final AbstractDataBuilder<?> builder = (AbstractDataBuilder<?>) loader.loadClass("test.PointDataBuilder").getConstructor().newInstance();
+        Assertions.assertEquals(Optional.of(point), builder.build(container));
+    }
+
+    @Test
+    void testInvalidDataIsRejected() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Setting",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "import java.util.List;",
+            "@DataCodec",
+            "public class Setting {",
+            "    public enum Level { LOW, HIGH }",
+            "    int value;",
+            "    Level level;",
+            "    List<Level> levels;",
+            "}");
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        final DataTranslator<Object> translator = DataCodecProcessorTest.translator(compilation.classLoader(), "test.SettingDataTranslator");
+
+        final InvalidDataException missing = Assertions.assertThrows(InvalidDataException.class,
+            () -> translator.translate(DataContainer.createNew()));
+        Assertions.assertTrue(missing.getMessage().startsWith("Missing required data value"), missing.getMessage());
+
+        final DataContainer unknown = DataContainer.createNew();
+        unknown.set(DataQuery.of('.', "value"), 1);
+        unknown.set(DataQuery.of('.', "level"), "MEDIUM");
+        final InvalidDataException constant = Assertions.assertThrows(InvalidDataException.class, () -> translator.translate(unknown));
+        Assertions.assertEquals("Unknown constant MEDIUM of test.Setting$Level", constant.getMessage());
+
+        final DataContainer unknownElement = DataContainer.createNew();
+        unknownElement.set(DataQuery.of('.', "value"), 1);
+        unknownElement.set(DataQuery.of('.', "levels"), Arrays.asList("LOW", "NONE"));
+        Assertions.assertThrows(InvalidDataException.class, () -> translator.translate(unknownElement));
+    }
+
+    @Test
+    void testFieldsAreAssignedWithoutMatchingConstructor() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Names",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "import java.util.List;",
+            "@DataCodec",
+            "public class Names {",
+            "    List<String> names;",
+            "    public Names() { }",
+            "    public Names(final List<Integer> names) { }",
+            "}");
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        final String translator = compilation.generatedSource("test.NamesDataTranslator").orElse("");
+        Assertions.assertTrue(translator.contains("obj.names = view.getStringList("), translator);
+        Assertions.assertFalse(compilation.generatedSource("test.NamesDataBuilder").isPresent());
+    }
+
+    @Test
+    void testMismatchedGenericConstructorIsRejected() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Names",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "import java.util.List;",
+            "@DataCodec",
+            "public class Names {",
+            "    final List<String> names;",
+            "    public Names(final List<Integer> names) { this.names = null; }",
+            "}");
+        Assertions.assertFalse(compilation.success());
+        final List<String> errors = compilation.messages(Diagnostic.Kind.ERROR);
+        Assertions.assertEquals(1, errors.size(), errors::toString);
+        Assertions.assertTrue(errors.get(0).startsWith("class must declare a non-private constructor"), errors::toString);
+    }
+
+    @Test
+    void testCharactersAreRejected() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Chars",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "import java.util.List;",
+            "@DataCodec",
+            "public class Chars {",
+            "    char primitive;",
+            "    Character wrapper;",
+            "    List<Character> list;",
+            "}");
+        Assertions.assertFalse(compilation.success());
+        final List<String> errors = compilation.messages(Diagnostic.Kind.ERROR);
+        Assertions.assertEquals(3, errors.size(), errors::toString);
+        for (final String error : errors) {
+            Assertions.assertTrue(error.startsWith("unsupported type of serialized field"), error);
+        }
+        Assertions.assertFalse(compilation.generatedSource("test.CharsDataTranslator").isPresent());
+    }
+
+    @Test
+    void testPrivateFieldsAreRejected() throws Exception {
+        final ProcessorCompilation compilation = this.compile("test.Hidden",
+            "package test;",
+            "import org.spongepowered.api.data.persistence.DataCodec;",
+            "@DataCodec",
+            "public class Hidden {",
+            "    private int value;",
+            "}");
+        Assertions.assertFalse(compilation.success());
+        Assertions.assertEquals(Collections.singletonList("serialized field must not be private"), compilation.messages(Diagnostic.Kind.ERROR));
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.ListenerDispatcher;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic;
+
+class ListenerProcessorTest {
+
+    @TempDir
+    Path root;
+
+    private static final String EVENTS = String.join("\n",
+        "package test;",
+        "import org.spongepowered.api.data.Key;",
+        "import org.spongepowered.api.data.value.Value;",
+        "import org.spongepowered.api.data.value.ValueContainer;",
+        "import org.spongepowered.api.event.Cancellable;",
+        "import org.spongepowered.api.event.Cause;",
+        "import org.spongepowered.api.event.Event;",
+        "import java.util.Collections;",
+        "import java.util.Optional;",
+        "import java.util.Set;",
+        "public class Events {",
+        "    public static class Base implements Event {",
+        "        private final Cause cause;",
+        "        public Base(final Cause cause) { this.cause = cause; }",
+        "        @Override public Cause cause() { return this.cause; }",
+        "        public Optional<Object> value() { return Optional.of(this.cause.root()); }",
+        "    }",
+        "    public static class Cancelled extends Base implements Cancellable {",
+        "        public Cancelled(final Cause cause) { super(cause); }",
+        "        @Override public boolean isCancelled() { return true; }",
+        "        @Override public void setCancelled(final boolean cancelled) { }",
+        "    }",
+        "    public static class DataKeys {",
+        "        public static final Key<Value<String>> NAME = null;",
+        "    }",
+        "    public static class Holder implements ValueContainer {",
+        "        private final String name;",
+        "        public Holder(final String name) { this.name = name; }",
+        "        @Override @SuppressWarnings(\"unchecked\") public <E> Optional<E> get(final Key<? extends Value<E>> key) {",
+        "            return Optional.ofNullable((E) this.name);",
+        "        }",
+        "        @Override public <E, V extends Value<E>> Optional<V> getValue(final Key<V> key) { return Optional.empty(); }",
+        "        @Override public boolean supports(final Key<?> key) { return this.name != null; }",
+        "        @Override public Set<Key<?>> getKeys() { return Collections.emptySet(); }",
+        "        @Override public Set<Value.Immutable<?>> getValues() { return Collections.emptySet(); }",
+        "        @Override public String toString() { return String.valueOf(this.name); }",
+        "    }",
+        "}");
+
+    private static ProcessorCompilation compile(final Path root, final String... sources) throws Exception {
+        final Map<String, String> files = new HashMap<>();
+        files.put("test.Events", ListenerProcessorTest.EVENTS);
+        for (int i = 0; i < sources.length; i += 2) {
+            files.put(sources[i], sources[i + 1]);
+        }
+        return ProcessorCompilation.compile(root, new ListenerProcessor(), files);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> dispatch(final ClassLoader loader, final String listenerType, final String eventType, final Object... causes)
+            throws Exception {
+        final Object listener = loader.loadClass(listenerType).getConstructor().newInstance();
+        final Event event = (Event) loader.loadClass(eventType).getConstructor(Cause.class)
+            .newInstance(Cause.of(EventContext.empty(), Arrays.asList(causes)));
+        final ListenerDispatcher<Object> dispatcher = (ListenerDispatcher<Object>) loader.loadClass(listenerType + "ListenerDispatcher")
+            .getConstructor().newInstance();
+        for (final ListenerDispatcher.Registration<?> registration : dispatcher.registrations(listener)) {
+            if (registration.eventType().getType() instanceof Class && ((Class<?>) registration.eventType().getType()).isInstance(event)) {
+                ((EventListener<Event>) registration.listener()).handle(event);
+            }
+        }
+        return (List<String>) listener.getClass().getField("calls").get(listener);
+    }
+
+    private static Object holder(final ClassLoader loader, final String name) throws Exception {
+        return loader.loadClass("test.Events$Holder").getConstructor(String.class).newInstance(name);
+    }
+
+    @Test
+    void testFiltersAreChecked() throws Exception {
+        final ProcessorCompilation compilation = ListenerProcessorTest.compile(this.root,
+            "test.Filtered", String.join("\n",
+                "package test;",
+                "import org.spongepowered.api.event.Listener;",
+                "import org.spongepowered.api.event.filter.Getter;",
+                "import org.spongepowered.api.event.filter.IsCancelled;",
+                "import org.spongepowered.api.event.filter.cause.First;",
+                "import org.spongepowered.api.event.filter.cause.Last;",
+                "import org.spongepowered.api.event.filter.cause.Root;",
+                "import org.spongepowered.api.util.Tristate;",
+                "import java.util.ArrayList;",
+                "import java.util.List;",
+                "public class Filtered {",
+                "    public final List<String> calls = new ArrayList<>();",
+                "    @Listener public void base(final Events.Base event) { this.calls.add(\"base\"); }",
+                "    @Listener @IsCancelled public void cancelled(final Events.Cancelled event) { this.calls.add(\"cancelled\"); }",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED) public void any(final Events.Base event) { this.calls.add(\"any\"); }",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED)",
+                "    public void first(final Events.Base event, @First final String first, @Last(typeFilter = Integer.class) final Number last) {",
+                "        this.calls.add(\"first \" + first + \" \" + last);",
+                "    }",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED) public void root(final Events.Base event, @Root final Integer root) {",
+                "        this.calls.add(\"root \" + root);",
+                "    }",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED) public void getter(final Events.Base event, @Getter(\"value\") final String value) {",
+                "        this.calls.add(\"getter \" + value);",
+                "    }",
+                "}"),
+            "test.Related", String.join("\n",
+                "package test;",
+                "import org.spongepowered.api.event.Listener;",
+                "import org.spongepowered.api.event.filter.IsCancelled;",
+                "import org.spongepowered.api.event.filter.cause.After;",
+                "import org.spongepowered.api.event.filter.cause.All;",
+                "import org.spongepowered.api.event.filter.cause.Before;",
+                "import org.spongepowered.api.event.filter.cause.First;",
+                "import org.spongepowered.api.event.filter.data.Has;",
+                "import org.spongepowered.api.event.filter.data.Supports;",
+                "import org.spongepowered.api.event.filter.type.Exclude;",
+                "import org.spongepowered.api.event.filter.type.Include;",
+                "import org.spongepowered.api.util.Tristate;",
+                "import java.util.ArrayList;",
+                "import java.util.Arrays;",
+                "import java.util.List;",
+                "public class Related {",
+                "    public final List<String> calls = new ArrayList<>();",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED) @Include(Events.Cancelled.class)",
+                "    public void include(final Events.Base event) { this.calls.add(\"include\"); }",
+                "    @Listener @IsCancelled(Tristate.UNDEFINED) @Exclude(Events.Cancelled.class)",
+                "    public void exclude(final Events.Base event) { this.calls.add(\"exclude\"); }",
+                "    @Listener public void before(final Events.Base event, @Before(String.class) final Integer before) {",
+                "        this.calls.add(\"before \" + before);",
+                "    }",
+                "    @Listener public void after(final Events.Base event, @After(String.class) final Long after) {",
+                "        this.calls.add(\"after \" + after);",
+                "    }",
+                "    @Listener public void all(final Events.Base event, @All final Long[] all) { this.calls.add(\"all \" + Arrays.toString(all)); }",
+                "    @Listener public void allOrNone(final Events.Base event, @All(ignoreEmpty = false) final Double[] all) {",
+                "        this.calls.add(\"all or none \" + Arrays.toString(all));",
+                "    }",
+                "    @Listener public void inverse(final Events.Base event, @First(typeFilter = Long.class, inverse = true) final Number number) {",
+                "        this.calls.add(\"inverse \" + number);",
+                "    }",
+                "    @Listener public void has(final Events.Base event,",
+                "            @First @Has(container = Events.DataKeys.class, value = \"NAME\") final Events.Holder holder) {",
+                "        this.calls.add(\"has \" + holder);",
+                "    }",
+                "    @Listener public void hasNot(final Events.Base event,",
+                "            @First @Has(container = Events.DataKeys.class, value = \"NAME\", inverse = true) final Events.Holder holder) {",
+                "        this.calls.add(\"has not \" + holder);",
+                "    }",
+                "    @Listener public void supports(final Events.Base event,",
+                "            @First @Supports(container = Events.DataKeys.class, value = \"NAME\") final Events.Holder holder) {",
+                "        this.calls.add(\"supports \" + holder);",
+                "    }",
+                "}"));
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        Assertions.assertFalse(compilation.messages(Diagnostic.Kind.NOTE).stream().anyMatch(message -> message.contains("test.Related")),
+            () -> compilation.messages(Diagnostic.Kind.NOTE).toString());
+
+        final ClassLoader loader = compilation.classLoader();
+
+        Assertions.assertEquals(Arrays.asList("base", "any", "first a 2", "getter a"),
+            ListenerProcessorTest.dispatch(loader, "test.Filtered", "test.Events$Base", "a", 1L, 2));
+        Assertions.assertEquals(Arrays.asList("base", "any", "root 3"),
+            ListenerProcessorTest.dispatch(loader, "test.Filtered", "test.Events$Base", 3, "b", 4L));
+        // Without @IsCancelled, cancelled subtypes of an uncancellable event type are skipped as well
+        Assertions.assertEquals(Arrays.asList("cancelled", "any", "root 5"),
+            ListenerProcessorTest.dispatch(loader, "test.Filtered", "test.Events$Cancelled", 5));
+
+        final Object named = ListenerProcessorTest.holder(loader, "a");
+        Assertions.assertEquals(Arrays.asList("exclude", "before 1", "after 2", "all [2]", "all or none []", "inverse 1", "has a", "supports a"),
+            ListenerProcessorTest.dispatch(loader, "test.Related", "test.Events$Base", 1, "s", 2L, named));
+        Assertions.assertEquals(Arrays.asList("exclude", "all or none []", "has not null"),
+            ListenerProcessorTest.dispatch(loader, "test.Related", "test.Events$Base", ListenerProcessorTest.holder(loader, null)));
+        Assertions.assertEquals(Arrays.asList("include"),
+            ListenerProcessorTest.dispatch(loader, "test.Related", "test.Events$Cancelled", 5));
+    }
+
+    @Test
+    void testIndexListsDispatchers() throws Exception {
+        final ProcessorCompilation compilation = ListenerProcessorTest.compile(this.root,
+            "test.Outer", String.join("\n",
+                "package test;",
+                "import org.spongepowered.api.event.Listener;",
+                "public class Outer {",
+                "    @Listener public void outer(final Events.Base event) { }",
+                "    public static class Inner {",
+                "        @Listener public void inner(final Events.Base event) { }",
+                "    }",
+                "}"));
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        Assertions.assertTrue(compilation.generatedSource("test.OuterListenerDispatcher").isPresent());
+        Assertions.assertTrue(compilation.generatedSource("test.Outer_InnerListenerDispatcher").isPresent());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("test.OuterListenerDispatcher", "test.Outer_InnerListenerDispatcher")),
+            new HashSet<>(Arrays.asList(compilation.resource(ListenerDispatcher.INDEX).orElse("").split("\n"))));
+    }
+
+    @Test
+    void testInaccessibleClassesAreDiscoveredAtRuntime() throws Exception {
+        final ProcessorCompilation compilation = ListenerProcessorTest.compile(this.root,
+            "test.Inaccessible", String.join("\n",
+                "package test;",
+                "import org.spongepowered.api.event.Listener;",
+                "public class Inaccessible {",
+                "    public Object first() {",
+                "        class Local { @Listener public void on(final Events.Base event) { } }",
+                "        return new Local();",
+                "    }",
+                "    public Object second() {",
+                "        class Local { @Listener public void on(final Events.Base event) { } }",
+                "        return new Local();",
+                "    }",
+                "    public Object anonymous() {",
+                "        return new Object() { @Listener public void on(final Events.Base event) { } };",
+                "    }",
+                "    private static class Hidden {",
+                "        public static class Nested { @Listener public void on(final Events.Base event) { } }",
+                "    }",
+                "}"));
+        Assertions.assertTrue(compilation.success(), () -> compilation.messages(Diagnostic.Kind.ERROR).toString());
+        Assertions.assertTrue(compilation.messages(Diagnostic.Kind.NOTE).stream()
+            .anyMatch(message -> message.startsWith("Listeners of test.Inaccessible.Hidden.Nested will be discovered at runtime")));
+        Assertions.assertFalse(compilation.resource(ListenerDispatcher.INDEX).isPresent());
+    }
+
+}
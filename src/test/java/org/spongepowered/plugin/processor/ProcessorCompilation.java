@@ -0,0 +1,130 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles test sources with an annotation processor, against the classpath
+ * of the tests.
+ */
+final class ProcessorCompilation {
+
+    private final Path classes;
+    private final Path generated;
+    private final boolean success;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+    private ProcessorCompilation(final Path classes, final Path generated, final boolean success,
+            final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        this.classes = classes;
+        this.generated = generated;
+        this.success = success;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Compiles the given sources, keyed by the qualified name of their
+     * top-level class.
+     *
+     * @param root The directory to write sources and outputs to
+     * @param processor The processor
+     * @param sources The sources
+     * @return The compilation
+     * @throws IOException If the sources could not be written
+     */
+    static ProcessorCompilation compile(final Path root, final Processor processor, final Map<String, String> sources) throws IOException {
+        final Path sourceRoot = Files.createDirectories(root.resolve("src"));
+        final Path classes = Files.createDirectories(root.resolve("classes"));
+        final Path generated = Files.createDirectories(root.resolve("generated"));
+        final List<Path> files = new ArrayList<>();
+        for (final Map.Entry<String, String> source : sources.entrySet()) {
+            final Path file = sourceRoot.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            files.add(Files.write(file, source.getValue().getBytes(StandardCharsets.UTF_8)));
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", generated.toString()),
+                null, fileManager.getJavaFileObjectsFromFiles(files.stream().map(Path::toFile).collect(Collectors.toList())));
+            task.setProcessors(Collections.singletonList(processor));
+            final boolean success = task.call();
+            return new ProcessorCompilation(classes, generated, success, diagnostics.getDiagnostics());
+        }
+    }
+
+    boolean success() {
+        return this.success;
+    }
+
+    List<String> messages(final Diagnostic.Kind kind) {
+        return this.diagnostics.stream()
+            .filter(diagnostic -> diagnostic.getKind() == kind)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .collect(Collectors.toList());
+    }
+
+    Optional<String> generatedSource(final String qualifiedName) throws IOException {
+        return ProcessorCompilation.read(this.generated.resolve(qualifiedName.replace('.', '/') + ".java"));
+    }
+
+    Optional<String> resource(final String path) throws IOException {
+        return ProcessorCompilation.read(this.classes.resolve(path));
+    }
+
+    ClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[] {this.classes.toUri().toURL()}, ProcessorCompilation.class.getClassLoader());
+    }
+
+    private static Optional<String> read(final Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+}